@@ -0,0 +1,34 @@
+package org.lucky0111.pettalkmcpserver.config;
+
+import org.springframework.ai.tool.ToolCallback;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * @Tool 메서드로부터 생성한 도구 목록 (SSE 전송 계층과 Streamable HTTP 엔드포인트가 공유)
+ */
+public class McpToolRegistry {
+
+    private final ToolCallback[] toolCallbacks;
+    private final Map<String, ToolCallback> toolCallbacksByName;
+
+    public McpToolRegistry(ToolCallback[] toolCallbacks) {
+        this.toolCallbacks = toolCallbacks.clone();
+        this.toolCallbacksByName = Arrays.stream(toolCallbacks)
+                .collect(Collectors.toUnmodifiableMap(
+                        toolCallback -> toolCallback.getToolDefinition().name(),
+                        Function.identity()));
+    }
+
+    public ToolCallback[] getToolCallbacks() {
+        return toolCallbacks.clone();
+    }
+
+    public Optional<ToolCallback> find(String name) {
+        return Optional.ofNullable(name).map(toolCallbacksByName::get);
+    }
+}
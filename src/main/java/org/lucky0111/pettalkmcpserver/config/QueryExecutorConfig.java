@@ -0,0 +1,50 @@
+package org.lucky0111.pettalkmcpserver.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+// 서로 독립적인 조회 쿼리를 동시에 실행하기 위한 전용 실행기
+// 동시 실행 수는 DB 커넥션 풀 크기보다 작게 유지해야 함
+@Configuration
+public class QueryExecutorConfig {
+
+    public static final String QUERY_EXECUTOR = "queryExecutor";
+
+    private static final String THREAD_NAME_PREFIX = "query-";
+
+    // 플랫폼 스레드: 고정 크기 스레드 풀, 큐가 가득 차면 호출 스레드에서 실행
+    @Bean(QUERY_EXECUTOR)
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public AsyncTaskExecutor platformQueryExecutor(
+            @Value("${pettalk.query-executor.concurrency:8}") int concurrency,
+            @Value("${pettalk.query-executor.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(THREAD_NAME_PREFIX);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    // 가상 스레드 (Java 21 이상, spring.threads.virtual.enabled=true): 작업마다 스레드 생성, 동시 실행 수만 제한
+    @Bean(QUERY_EXECUTOR)
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public AsyncTaskExecutor virtualQueryExecutor(
+            @Value("${pettalk.query-executor.concurrency:8}") int concurrency) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(THREAD_NAME_PREFIX);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrency);
+        return executor;
+    }
+}
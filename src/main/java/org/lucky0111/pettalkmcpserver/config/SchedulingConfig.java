@@ -0,0 +1,12 @@
+package org.lucky0111.pettalkmcpserver.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 인메모리 인덱스 주기적 갱신 등 스케줄 작업 활성화 (테스트에서는 pettalk.scheduling.enabled=false)
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "pettalk.scheduling", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
@@ -1,26 +1,115 @@
 package org.lucky0111.pettalkmcpserver.config;
 
+import io.modelcontextprotocol.server.McpServerFeatures;
+import io.modelcontextprotocol.server.McpSyncServerExchange;
 import lombok.RequiredArgsConstructor;
+import org.lucky0111.pettalkmcpserver.metrics.SqlBudget;
+import org.lucky0111.pettalkmcpserver.metrics.ToolMetrics;
+import org.lucky0111.pettalkmcpserver.service.ApplyService;
 import org.lucky0111.pettalkmcpserver.service.ChatService;
+import org.lucky0111.pettalkmcpserver.service.CommentService;
+import org.lucky0111.pettalkmcpserver.service.DiagnosticService;
 import org.lucky0111.pettalkmcpserver.service.TagService;
+import org.springframework.ai.mcp.McpToolUtils;
+import org.springframework.ai.tool.ToolCallback;
 import org.springframework.ai.tool.ToolCallbackProvider;
+import org.springframework.ai.tool.annotation.Tool;
 import org.springframework.ai.tool.method.MethodToolCallbackProvider;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Configuration
 @RequiredArgsConstructor
 public class ToolCallbackProviderConfig {
     private final TagService tagService;
     private final ChatService chatService;
+    private final CommentService commentService;
+    private final ApplyService applyService;
+    private final DiagnosticService diagnosticService;
+    private final ToolMetrics toolMetrics;
+
+    // 모든 전송 계층(SSE, Streamable HTTP)이 공유하는 도구 목록 (호출별 지표 기록, SQL 예산 검사)
+    // ApplyService(getTrainerApplies)는 훈련사 본인의 비공개 신청서를 반환하므로 기본적으로 등록하지 않음
+    // (호출자 인증이 없으므로 신뢰할 수 있는 클라이언트만 접근하는 배포에서만 활성화)
+    @Bean
+    public McpToolRegistry mcpToolRegistry(
+            @Value("${pettalk.mcp.tools.trainer-applies.enabled:false}") boolean trainerAppliesEnabled) {
+        List<Object> toolObjectList = new ArrayList<>(List.of(tagService, chatService, commentService, diagnosticService));
+        if (trainerAppliesEnabled) {
+            toolObjectList.add(applyService);
+        }
+        Object[] toolObjects = toolObjectList.toArray();
+        ToolCallback[] toolCallbacks = MethodToolCallbackProvider.builder()
+                .toolObjects(toolObjects)
+                .build()
+                .getToolCallbacks();
+
+        Map<String, Integer> sqlBudgets = sqlBudgets(toolObjects);
+        return new McpToolRegistry(Arrays.stream(toolCallbacks)
+                .map(toolCallback -> toolMetrics.instrument(toolCallback,
+                        sqlBudgets.get(toolCallback.getToolDefinition().name())))
+                .toArray(ToolCallback[]::new));
+    }
+
+    // 도구 이름 → @SqlBudget (도구 이름은 @Tool.name, 생략 시 메서드 이름)
+    private static Map<String, Integer> sqlBudgets(Object[] toolObjects) {
+        Map<String, Integer> sqlBudgets = new HashMap<>();
+        for (Object toolObject : toolObjects) {
+            ReflectionUtils.doWithMethods(AopUtils.getTargetClass(toolObject), method -> {
+                Tool tool = AnnotationUtils.findAnnotation(method, Tool.class);
+                SqlBudget sqlBudget = AnnotationUtils.findAnnotation(method, SqlBudget.class);
+                if (tool != null && sqlBudget != null) {
+                    String toolName = StringUtils.hasText(tool.name()) ? tool.name() : method.getName();
+                    sqlBudgets.put(toolName, sqlBudget.value());
+                }
+            });
+        }
+        return sqlBudgets;
+    }
+
+    // SYNC 모드 (기본): 요청 스레드에서 도구 실행
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.ai.mcp.server", name = "type", havingValue = "SYNC", matchIfMissing = true)
+    public ToolCallbackProvider toolCallbackProvider(McpToolRegistry mcpToolRegistry) {
+        return mcpToolRegistry::getToolCallbacks;
+    }
+
+    // ASYNC 모드: JDBC를 사용하는 도구 실행 전용 스케줄러 (스레드 수, 대기 작업 수 제한)
+    @Bean(destroyMethod = "dispose")
+    @ConditionalOnProperty(prefix = "spring.ai.mcp.server", name = "type", havingValue = "ASYNC")
+    public Scheduler mcpToolScheduler(
+            @Value("${pettalk.mcp.async.tool-concurrency:8}") int toolConcurrency,
+            @Value("${pettalk.mcp.async.queue-capacity:1000}") int queueCapacity) {
+        return Schedulers.newBoundedElastic(toolConcurrency, queueCapacity, "mcp-tool");
+    }
 
+    // ASYNC 모드: 블로킹 도구 호출을 전용 스케줄러에서 실행하는 Mono로 감싸서 등록
+    // (전송 계층의 이벤트 루프 / 요청 스레드는 도구 실행을 기다리지 않음)
     @Bean
-    public ToolCallbackProvider toolCallbackProvider() {
-        return MethodToolCallbackProvider.builder()
-                .toolObjects(
-                        tagService,
-                        chatService
-                )
-                .build();
+    @ConditionalOnProperty(prefix = "spring.ai.mcp.server", name = "type", havingValue = "ASYNC")
+    public List<McpServerFeatures.AsyncToolSpecification> asyncToolSpecifications(McpToolRegistry mcpToolRegistry,
+                                                                                   Scheduler mcpToolScheduler) {
+        return Arrays.stream(mcpToolRegistry.getToolCallbacks())
+                .map(McpToolUtils::toSyncToolSpecification)
+                .map(spec -> new McpServerFeatures.AsyncToolSpecification(spec.tool(),
+                        (exchange, arguments) -> Mono.fromCallable(() ->
+                                        spec.call().apply(new McpSyncServerExchange(exchange), arguments))
+                                .subscribeOn(mcpToolScheduler)))
+                .toList();
     }
 }
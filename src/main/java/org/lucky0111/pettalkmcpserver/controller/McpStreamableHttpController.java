@@ -0,0 +1,224 @@
+package org.lucky0111.pettalkmcpserver.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.lucky0111.pettalkmcpserver.config.McpToolRegistry;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Stateless Streamable HTTP MCP 엔드포인트 (SSE 엔드포인트와 함께 제공)
+ * - 요청 하나에 JSON 응답 하나, 세션(Mcp-Session-Id)과 서버 → 클라이언트 스트림 없음
+ * - initialize, ping, tools/list, tools/call 지원 (알림과 응답은 202로 수신만 확인)
+ */
+@Slf4j
+@RestController
+@ConditionalOnProperty(prefix = "pettalk.mcp.streamable-http", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class McpStreamableHttpController {
+
+    private static final String JSONRPC_VERSION = "2.0";
+    // 최신 버전 우선, 클라이언트가 요청한 버전을 지원하지 않으면 첫 번째 버전으로 응답
+    private static final List<String> SUPPORTED_PROTOCOL_VERSIONS = List.of("2025-06-18", "2025-03-26");
+
+    // JSON-RPC 오류 코드
+    private static final int INVALID_REQUEST = -32600;
+    private static final int METHOD_NOT_FOUND = -32601;
+    private static final int INVALID_PARAMS = -32602;
+    private static final int INTERNAL_ERROR = -32603;
+
+    private final McpToolRegistry mcpToolRegistry;
+    private final ObjectMapper objectMapper;
+    // ASYNC 모드의 도구 실행 전용 스케줄러 (SYNC 모드에서는 없음)
+    private final ObjectProvider<Scheduler> mcpToolScheduler;
+    private final String serverName;
+    private final String serverVersion;
+
+    // 도구 목록은 변하지 않으므로 한 번만 생성
+    private volatile ArrayNode toolList;
+
+    public McpStreamableHttpController(McpToolRegistry mcpToolRegistry,
+                                       ObjectMapper objectMapper,
+                                       @Qualifier("mcpToolScheduler") ObjectProvider<Scheduler> mcpToolScheduler,
+                                       @Value("${spring.ai.mcp.server.name:pet-talk-mcp-server}") String serverName,
+                                       @Value("${spring.ai.mcp.server.version:0.0.1}") String serverVersion) {
+        this.mcpToolRegistry = mcpToolRegistry;
+        this.objectMapper = objectMapper;
+        this.mcpToolScheduler = mcpToolScheduler;
+        this.serverName = serverName;
+        this.serverVersion = serverVersion;
+    }
+
+    @PostMapping(path = "${pettalk.mcp.streamable-http.endpoint:/mcp}",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<JsonNode>> handle(@RequestBody JsonNode body) {
+        Mono<ResponseEntity<JsonNode>> response = Mono.fromCallable(() -> dispatch(body));
+
+        // ASYNC 모드에서는 도구 실행 전용 스케줄러에서 처리, SYNC 모드에서는 요청 스레드에서 처리
+        Scheduler scheduler = mcpToolScheduler.getIfAvailable();
+        return scheduler != null ? response.subscribeOn(scheduler) : response;
+    }
+
+    // 서버 → 클라이언트 스트림과 세션을 제공하지 않음
+    @GetMapping(path = "${pettalk.mcp.streamable-http.endpoint:/mcp}")
+    public ResponseEntity<Void> openStream() {
+        return methodNotAllowed();
+    }
+
+    @DeleteMapping(path = "${pettalk.mcp.streamable-http.endpoint:/mcp}")
+    public ResponseEntity<Void> closeSession() {
+        return methodNotAllowed();
+    }
+
+    private ResponseEntity<JsonNode> dispatch(JsonNode body) {
+        if (body == null || body.isNull()) {
+            return ResponseEntity.badRequest().body(error(null, INVALID_REQUEST, "Empty request"));
+        }
+
+        // 배치 요청: 응답이 필요한 요청의 결과만 배열로 반환
+        if (body.isArray()) {
+            ArrayNode responses = objectMapper.createArrayNode();
+            body.forEach(message -> handleMessage(message).ifPresent(responses::add));
+            return responses.isEmpty()
+                    ? ResponseEntity.accepted().build()
+                    : ResponseEntity.ok(responses);
+        }
+
+        return handleMessage(body)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.accepted().build());
+    }
+
+    // 요청이면 응답, 알림/응답 메시지면 Optional.empty()
+    private Optional<JsonNode> handleMessage(JsonNode message) {
+        JsonNode id = message.get("id");
+        JsonNode method = message.get("method");
+        if (method == null || !method.isTextual()) {
+            return id == null ? Optional.empty() : Optional.of(error(id, INVALID_REQUEST, "Missing method"));
+        }
+        if (id == null || id.isNull()) {
+            return Optional.empty();
+        }
+
+        JsonNode params = message.path("params");
+        try {
+            return Optional.of(switch (method.asText()) {
+                case "initialize" -> result(id, initialize(params));
+                case "ping" -> result(id, objectMapper.createObjectNode());
+                case "tools/list" -> result(id, objectMapper.createObjectNode().set("tools", toolList()));
+                case "tools/call" -> callTool(id, params);
+                default -> error(id, METHOD_NOT_FOUND, "Method not found: " + method.asText());
+            });
+        } catch (RuntimeException e) {
+            log.warn("MCP request {} failed", method.asText(), e);
+            return Optional.of(error(id, INTERNAL_ERROR, messageOf(e)));
+        }
+    }
+
+    private ObjectNode initialize(JsonNode params) {
+        String requestedVersion = params.path("protocolVersion").asText(null);
+        String protocolVersion = SUPPORTED_PROTOCOL_VERSIONS.contains(requestedVersion)
+                ? requestedVersion
+                : SUPPORTED_PROTOCOL_VERSIONS.get(0);
+
+        ObjectNode result = objectMapper.createObjectNode();
+        result.put("protocolVersion", protocolVersion);
+        result.putObject("capabilities").putObject("tools").put("listChanged", false);
+        result.putObject("serverInfo")
+                .put("name", serverName)
+                .put("version", serverVersion);
+        return result;
+    }
+
+    private JsonNode callTool(JsonNode id, JsonNode params) {
+        String name = params.path("name").asText(null);
+        Optional<ToolCallback> toolCallback = mcpToolRegistry.find(name);
+        if (toolCallback.isEmpty()) {
+            return error(id, INVALID_PARAMS, "Unknown tool: " + name);
+        }
+
+        JsonNode arguments = params.path("arguments");
+        String input = arguments.isObject() ? arguments.toString() : "{}";
+
+        // 도구 실행 오류는 JSON-RPC 오류가 아닌 isError 결과로 반환 (SSE 전송 계층과 동일)
+        ObjectNode result = objectMapper.createObjectNode();
+        ObjectNode content = result.putArray("content").addObject().put("type", "text");
+        try {
+            content.put("text", toolCallback.get().call(input));
+            result.put("isError", false);
+        } catch (RuntimeException e) {
+            log.warn("Tool {} failed: {}", name, e.getMessage());
+            content.put("text", messageOf(e));
+            result.put("isError", true);
+        }
+        return result(id, result);
+    }
+
+    private ArrayNode toolList() {
+        ArrayNode tools = toolList;
+        if (tools == null) {
+            tools = objectMapper.createArrayNode();
+            for (ToolCallback toolCallback : mcpToolRegistry.getToolCallbacks()) {
+                ToolDefinition definition = toolCallback.getToolDefinition();
+                ObjectNode tool = tools.addObject()
+                        .put("name", definition.name())
+                        .put("description", definition.description());
+                try {
+                    tool.set("inputSchema", objectMapper.readTree(definition.inputSchema()));
+                } catch (Exception e) {
+                    throw new IllegalStateException("Invalid input schema for tool " + definition.name(), e);
+                }
+            }
+            toolList = tools;
+        }
+        return tools;
+    }
+
+    private ObjectNode result(JsonNode id, JsonNode result) {
+        ObjectNode response = objectMapper.createObjectNode().put("jsonrpc", JSONRPC_VERSION);
+        response.set("id", id);
+        response.set("result", result);
+        return response;
+    }
+
+    private ObjectNode error(JsonNode id, int code, String message) {
+        ObjectNode response = objectMapper.createObjectNode().put("jsonrpc", JSONRPC_VERSION);
+        response.set("id", id);
+        response.putObject("error")
+                .put("code", code)
+                .put("message", message);
+        return response;
+    }
+
+    // 메시지 없는 예외는 예외 클래스 이름으로 대신함 (text, message 필드가 null이 되지 않도록)
+    private static String messageOf(RuntimeException e) {
+        return e.getMessage() != null ? e.getMessage() : e.getClass().getName();
+    }
+
+    private ResponseEntity<Void> methodNotAllowed() {
+        return ResponseEntity.status(HttpStatus.METHOD_NOT_ALLOWED)
+                .header(HttpHeaders.ALLOW, "POST")
+                .build();
+    }
+}
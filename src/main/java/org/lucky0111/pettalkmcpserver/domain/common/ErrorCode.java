@@ -17,12 +17,18 @@ public enum ErrorCode {
     // 신청서 관련 에러
     APPLY_ALREADY_EXISTS("현재 신청 중 입니다.", HttpStatus.CONFLICT),
     APPLY_NOT_FOUND("신청 정보를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    INVALID_APPLY_STATUS("잘못된 신청 상태입니다. (PENDING, APPROVED, REJECTED)", HttpStatus.BAD_REQUEST),
 
     // 권한 관련 에러
     PERMISSION_DENIED("해당 작업에 대한 권한이 없습니다.", HttpStatus.FORBIDDEN),
 
     // 토큰 관련 에러
-    TOKEN_NOT_FOUND("인증 토큰을 찾을 수 없습니다.", HttpStatus.UNAUTHORIZED);
+    TOKEN_NOT_FOUND("인증 토큰을 찾을 수 없습니다.", HttpStatus.UNAUTHORIZED),
+
+    // 조회 관련 에러
+    QUERY_TIMEOUT("조회 시간이 초과되었습니다.", HttpStatus.GATEWAY_TIMEOUT),
+    INVALID_CURSOR("잘못된 페이지 커서입니다.", HttpStatus.BAD_REQUEST),
+    SQL_BUDGET_EXCEEDED("SQL 실행 횟수가 도구의 예산을 초과했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
 
     private final String message;
     private final HttpStatus httpStatus;
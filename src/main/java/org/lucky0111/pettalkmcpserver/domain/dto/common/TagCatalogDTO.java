@@ -0,0 +1,10 @@
+package org.lucky0111.pettalkmcpserver.domain.dto.common;
+
+import java.util.List;
+
+public record TagCatalogDTO(
+        long version, // 태그 목록이 바뀔 때마다 증가
+        boolean unchanged, // 요청한 knownVersion과 같으면 true (tags는 비어 있음)
+        List<String> tags // 태그 이름 목록 (태그 ID 순)
+) {
+}
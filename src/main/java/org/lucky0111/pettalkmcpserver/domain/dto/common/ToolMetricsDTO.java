@@ -0,0 +1,19 @@
+package org.lucky0111.pettalkmcpserver.domain.dto.common;
+
+public record ToolMetricsDTO(
+        String toolName,
+        long calls, // 전체 호출 수 (오류 포함)
+        long errors,
+        double meanMs,
+        double p50Ms,
+        double p95Ms,
+        double p99Ms,
+        double maxMs, // 최근 구간 최대값
+        double meanResultBytes,
+        double meanResultItems,
+        double meanSqlStatements,
+        double maxSqlStatements, // 최근 구간 최대값
+        Integer sqlBudget, // @SqlBudget 미선언 시 null
+        long sqlBudgetExceeded
+) {
+}
@@ -0,0 +1,9 @@
+package org.lucky0111.pettalkmcpserver.domain.dto.match;
+
+import java.util.List;
+
+public record UserAppliesResponseDTO(
+        List<UserApplyResponseDTO> applies,
+        String nextCursor,
+        boolean hasMore
+) {}
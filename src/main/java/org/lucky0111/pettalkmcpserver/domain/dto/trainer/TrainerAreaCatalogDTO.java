@@ -0,0 +1,9 @@
+package org.lucky0111.pettalkmcpserver.domain.dto.trainer;
+
+import java.util.List;
+
+public record TrainerAreaCatalogDTO(
+        long version, // 지역 목록이 바뀔 때마다 증가
+        List<TrainerAreaCountDTO> areas // 훈련사 수 내림차순
+) {
+}
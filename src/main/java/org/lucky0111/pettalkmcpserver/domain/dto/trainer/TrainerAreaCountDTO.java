@@ -0,0 +1,7 @@
+package org.lucky0111.pettalkmcpserver.domain.dto.trainer;
+
+public record TrainerAreaCountDTO(
+        String area, // 정규화된 지역명 (예: "강남")
+        long trainerCount // 해당 지역을 방문 가능한 훈련사 수
+) {
+}
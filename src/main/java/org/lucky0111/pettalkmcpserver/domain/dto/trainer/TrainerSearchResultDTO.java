@@ -0,0 +1,10 @@
+package org.lucky0111.pettalkmcpserver.domain.dto.trainer;
+
+import java.util.UUID;
+
+public record TrainerSearchResultDTO(
+        UUID trainerId,
+        String searchType, // "both", "tag", "area" 중 하나
+        long score // 일치한 태그 수 + 일치한 지역 수
+) {
+}
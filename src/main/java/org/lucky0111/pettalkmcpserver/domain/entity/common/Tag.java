@@ -2,10 +2,12 @@ package org.lucky0111.pettalkmcpserver.domain.entity.common;
 
 import jakarta.persistence.*;
 import lombok.Getter;
+import org.lucky0111.pettalkmcpserver.index.TagIndexEntityListener;
 
 @Getter
 @Entity
 @Table(name = "tags")
+@EntityListeners(TagIndexEntityListener.class)
 public class Tag {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -10,7 +10,10 @@ import org.lucky0111.pettalkmcpserver.domain.entity.user.PetUser;
 @Setter
 @Getter
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comment_post_parent_id", columnList = "post_id, parent_comment_id, comment_id"),
+        @Index(name = "idx_comment_parent_id", columnList = "parent_comment_id, comment_id")
+})
 @NoArgsConstructor
 public class Comment extends BaseTimeEntity {
     @Id
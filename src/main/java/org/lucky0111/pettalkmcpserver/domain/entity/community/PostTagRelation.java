@@ -4,11 +4,13 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import org.lucky0111.pettalkmcpserver.domain.entity.common.Tag;
+import org.lucky0111.pettalkmcpserver.index.PostTagIndexEntityListener;
 
 
 @Setter
 @Getter
 @Entity
+@EntityListeners(PostTagIndexEntityListener.class)
 @Table(name = "post_tags", uniqueConstraints = {
         @UniqueConstraint(columnNames = {"tag_id", "post_id"})
 })
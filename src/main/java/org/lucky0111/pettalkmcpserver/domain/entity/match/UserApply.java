@@ -16,7 +16,9 @@ import org.lucky0111.pettalkmcpserver.domain.entity.user.PetUser;
         @Index(name = "idx_user_apply_user", columnList = "user_id"),
         @Index(name = "idx_user_apply_trainer", columnList = "trainer_id"),
         @Index(name = "idx_user_apply_status", columnList = "status"),
-        @Index(name = "idx_user_trainer_status", columnList = "user_id, trainer_id, status")
+        @Index(name = "idx_user_trainer_status", columnList = "user_id, trainer_id, status"),
+        @Index(name = "idx_user_apply_trainer_created", columnList = "trainer_id, created_at, apply_id"),
+        @Index(name = "idx_user_apply_trainer_status_created", columnList = "trainer_id, status, created_at, apply_id")
 })
 public class UserApply extends BaseTimeEntity {
     @Id
@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.lucky0111.pettalkmcpserver.domain.common.BaseTimeEntity;
 import org.lucky0111.pettalkmcpserver.domain.entity.match.UserApply;
+import org.lucky0111.pettalkmcpserver.service.trainer.TrainerCacheEntityListener;
 
 import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
@@ -19,6 +20,7 @@ import javax.validation.constraints.Min;
         @Index(name = "idx_review_rating", columnList = "rating")
 })
 @NoArgsConstructor
+@EntityListeners(TrainerCacheEntityListener.class)
 public class Review extends BaseTimeEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
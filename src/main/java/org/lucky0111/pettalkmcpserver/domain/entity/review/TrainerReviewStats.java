@@ -0,0 +1,42 @@
+package org.lucky0111.pettalkmcpserver.domain.entity.review;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 훈련사별 리뷰 통계 (reviews → user_applies → trainers 집계의 읽기 모델)
+ * TrainerReviewStatsService가 리뷰 지문 변화 시 훈련사별로 갱신, 매일 전체 재계산
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "trainer_review_stats")
+public class TrainerReviewStats {
+    @Id
+    private UUID trainerId;
+
+    @Column(nullable = false)
+    private long reviewCount;
+
+    @Column(nullable = false)
+    private long ratingSum;
+
+    // 평점별 리뷰 수 (1~5점)
+    @Column(name = "rating_1", nullable = false)
+    private long rating1;
+    @Column(name = "rating_2", nullable = false)
+    private long rating2;
+    @Column(name = "rating_3", nullable = false)
+    private long rating3;
+    @Column(name = "rating_4", nullable = false)
+    private long rating4;
+    @Column(name = "rating_5", nullable = false)
+    private long rating5;
+
+    public double getAverageRating() {
+        return reviewCount > 0 ? (double) ratingSum / reviewCount : 0.0;
+    }
+}
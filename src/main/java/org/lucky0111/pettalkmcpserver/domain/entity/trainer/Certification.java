@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.lucky0111.pettalkmcpserver.domain.common.BaseTimeEntity;
+import org.lucky0111.pettalkmcpserver.service.trainer.TrainerCacheEntityListener;
 
 import java.time.LocalDate;
 
@@ -14,6 +15,7 @@ import java.time.LocalDate;
 @NoArgsConstructor
 @Entity
 @Table(name = "certifications")
+@EntityListeners(TrainerCacheEntityListener.class)
 public class Certification extends BaseTimeEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -6,6 +6,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.lucky0111.pettalkmcpserver.domain.common.BaseTimeEntity;
 import org.lucky0111.pettalkmcpserver.domain.entity.user.PetUser;
+import org.lucky0111.pettalkmcpserver.service.trainer.TrainerCacheEntityListener;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -15,6 +16,7 @@ import java.util.*;
 @Entity
 @Table(name = "trainers")
 @NoArgsConstructor
+@EntityListeners(TrainerCacheEntityListener.class)
 public class Trainer extends BaseTimeEntity {
     @Id
     private UUID trainerId; // FK -> PetUser.userId
@@ -48,6 +50,23 @@ public class Trainer extends BaseTimeEntity {
     @OneToMany(mappedBy = "trainer", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<TrainerTagRelation> trainerTagRelations = new HashSet<>();
 
+    // visitingAreas의 정규화 테이블 (setVisitingAreas 시 동기화)
+    @OneToMany(mappedBy = "trainer", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    private Set<TrainerArea> areas = new HashSet<>();
+
+    public void setVisitingAreas(String visitingAreas) {
+        this.visitingAreas = visitingAreas;
+        syncAreas();
+    }
+
+    // visitingAreas 기준으로 지역 목록 동기화 (추가/삭제된 지역만 반영)
+    public void syncAreas() {
+        Set<String> areaCodes = TrainerArea.parseAreaCodes(visitingAreas);
+        areas.removeIf(area -> !areaCodes.contains(area.getAreaCode()));
+        areas.forEach(area -> areaCodes.remove(area.getAreaCode()));
+        areaCodes.forEach(areaCode -> areas.add(new TrainerArea(this, areaCode)));
+    }
+
 
     public void addCertification(Certification certification) {
         certifications.add(certification);
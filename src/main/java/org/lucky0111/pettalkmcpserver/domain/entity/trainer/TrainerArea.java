@@ -0,0 +1,55 @@
+package org.lucky0111.pettalkmcpserver.domain.entity.trainer;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.lucky0111.pettalkmcpserver.index.RegionHierarchy;
+import org.lucky0111.pettalkmcpserver.index.TrainerAreaEntityListener;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 훈련사 방문 가능 지역 (Trainer.visitingAreas 정규화 테이블)
+ * areaCode는 RegionHierarchy로 정규화한 지역명 (예: "강남구" → "강남")
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@EntityListeners(TrainerAreaEntityListener.class)
+@Table(name = "trainer_areas", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"trainer_id", "area_code"})
+}, indexes = {
+        @Index(name = "idx_trainer_area_code", columnList = "area_code, trainer_id")
+})
+public class TrainerArea {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "trainer_id", nullable = false)
+    private Trainer trainer;
+
+    @Column(name = "area_code", nullable = false, length = 50)
+    private String areaCode;
+
+    public TrainerArea(Trainer trainer, String areaCode) {
+        this.trainer = trainer;
+        this.areaCode = areaCode;
+    }
+
+    // 쉼표로 구분된 방문 가능 지역 문자열을 정규화된 지역 코드 목록으로 변환
+    public static Set<String> parseAreaCodes(String visitingAreas) {
+        if (visitingAreas == null || visitingAreas.isBlank()) {
+            return new LinkedHashSet<>();
+        }
+
+        return Arrays.stream(visitingAreas.split(","))
+                .map(RegionHierarchy::normalize)
+                .filter(areaCode -> !areaCode.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+}
@@ -5,12 +5,14 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.lucky0111.pettalkmcpserver.domain.common.BaseTimeEntity;
+import org.lucky0111.pettalkmcpserver.service.trainer.TrainerCacheEntityListener;
 
 @Entity
 @Getter
 @Setter
 @NoArgsConstructor
 @Table(name ="trainer_photos")
+@EntityListeners(TrainerCacheEntityListener.class)
 public class TrainerPhoto extends BaseTimeEntity {
 
     @Id
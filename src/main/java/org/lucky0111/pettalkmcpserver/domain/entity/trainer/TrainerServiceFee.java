@@ -6,6 +6,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.lucky0111.pettalkmcpserver.domain.common.BaseTimeEntity;
 import org.lucky0111.pettalkmcpserver.domain.common.ServiceType;
+import org.lucky0111.pettalkmcpserver.service.trainer.TrainerCacheEntityListener;
 
 import java.math.BigDecimal;
 
@@ -14,6 +15,7 @@ import java.math.BigDecimal;
 @Setter
 @NoArgsConstructor
 @Table(name = "trainer_service_fees")
+@EntityListeners(TrainerCacheEntityListener.class)
 public class TrainerServiceFee extends BaseTimeEntity {
 
     @Id
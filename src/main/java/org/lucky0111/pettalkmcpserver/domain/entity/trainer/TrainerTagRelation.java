@@ -3,12 +3,15 @@ package org.lucky0111.pettalkmcpserver.domain.entity.trainer;
 import jakarta.persistence.*;
 import lombok.Getter;
 import org.lucky0111.pettalkmcpserver.domain.entity.common.Tag;
+import org.lucky0111.pettalkmcpserver.index.TagIndexEntityListener;
+import org.lucky0111.pettalkmcpserver.service.trainer.TrainerCacheEntityListener;
 
 @Getter
 @Entity
 @Table(name = "trainer_tags", uniqueConstraints = {
         @UniqueConstraint(columnNames = {"tag_id", "trainer_id"})
 })
+@EntityListeners({TagIndexEntityListener.class, TrainerCacheEntityListener.class})
 public class TrainerTagRelation {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -6,6 +6,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.lucky0111.pettalkmcpserver.domain.common.BaseTimeEntity;
 import org.lucky0111.pettalkmcpserver.domain.common.UserRole;
+import org.lucky0111.pettalkmcpserver.index.TrainerNameIndexEntityListener;
+import org.lucky0111.pettalkmcpserver.service.trainer.TrainerCacheEntityListener;
 
 import java.util.UUID;
 
@@ -15,6 +17,7 @@ import java.util.UUID;
 @Entity
 @Table(name = "pet_users")
 @NoArgsConstructor
+@EntityListeners({TrainerCacheEntityListener.class, TrainerNameIndexEntityListener.class})
 public class PetUser extends BaseTimeEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -0,0 +1,102 @@
+package org.lucky0111.pettalkmcpserver.index;
+
+import lombok.extern.slf4j.Slf4j;
+import org.lucky0111.pettalkmcpserver.metrics.SqlStatementCounter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.zip.CRC32;
+
+/**
+ * 변경 감지 지문(fingerprint)으로 갱신하는 인메모리 불변 스냅샷 공통 처리
+ * - invalidate() 후 다음 get()에서 재구성 (재구성 조회는 여러 호출에 걸쳐 분산되므로 도구 호출별 SQL 예산에서 제외)
+ * - refreshIfChanged()로 지문을 다시 조회하여 다른 서버(메인 애플리케이션)에서 발생한 변경 감지
+ * - 지문은 재구성 전에 조회하므로, 재구성 중 발생한 변경은 다음 확인에서 감지됨
+ * @param <S> 스냅샷 타입
+ */
+@Slf4j
+final class FingerprintedSnapshot<S> {
+
+    private final String name;
+    private final Supplier<List<Object>> fingerprintLoader;
+    private final UnaryOperator<S> builder;
+
+    private volatile S snapshot;
+    private volatile List<Object> fingerprint;
+    private volatile boolean dirty = true;
+
+    /**
+     * @param name 로그에 표시할 이름
+     * @param fingerprintLoader 변경 감지 지문 조회
+     * @param builder 이전 스냅샷(최초 구성 시 null)으로 새 스냅샷 구성
+     */
+    FingerprintedSnapshot(String name, Supplier<List<Object>> fingerprintLoader, UnaryOperator<S> builder) {
+        this.name = name;
+        this.fingerprintLoader = fingerprintLoader;
+        this.builder = builder;
+    }
+
+    S get() {
+        S current = snapshot;
+        if (current == null || dirty) {
+            synchronized (this) {
+                if (snapshot == null || dirty) {
+                    dirty = false;
+                    S previous = snapshot;
+                    SqlStatementCounter.background(() -> {
+                        fingerprint = fingerprintLoader.get();
+                        snapshot = builder.apply(previous);
+                        return null;
+                    });
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 구성된 스냅샷 (아직 구성 전이면 null, 재구성하지 않음)
+     */
+    S peek() {
+        return snapshot;
+    }
+
+    void invalidate() {
+        dirty = true;
+    }
+
+    /**
+     * 이 서버의 변경을 스냅샷에 직접 반영한 경우 지문도 같은 변경만큼 갱신 (재구성 방지)
+     */
+    synchronized void updateFingerprint(UnaryOperator<List<Object>> update) {
+        if (fingerprint != null) {
+            fingerprint = update.apply(fingerprint);
+        }
+    }
+
+    void refreshIfChanged() {
+        if (snapshot == null) {
+            return;
+        }
+        List<Object> latest = SqlStatementCounter.background(fingerprintLoader);
+        if (!latest.equals(fingerprint)) {
+            log.info("{} fingerprint changed, rebuilding", name);
+            dirty = true;
+        }
+    }
+
+    /**
+     * 값 목록의 순서를 반영한 체크섬 (이름 변경처럼 개수, ID로 감지할 수 없는 변경 확인용)
+     */
+    static long checksum(List<?> values) {
+        CRC32 crc = new CRC32();
+        for (Object value : values) {
+            crc.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+            crc.update(0);
+        }
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,285 @@
+package org.lucky0111.pettalkmcpserver.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.lucky0111.pettalkmcpserver.domain.entity.common.Tag;
+import org.lucky0111.pettalkmcpserver.repository.common.TagRepository;
+import org.lucky0111.pettalkmcpserver.repository.community.PostTagRepository;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 태그 → 게시글 압축 비트맵(Roaring) 인메모리 인덱스
+ * - post_tags 전체로 한 번 구성한 뒤, 이 서버의 PostTagRelation 변경은 커밋 후 증분 반영
+ * - 다른 서버(메인 애플리케이션)의 변경은 관계 수, 관계 ID 합계로 주기적으로 감지하여 재구성
+ *   (증분 반영 시 지문도 함께 갱신하므로 이 서버의 변경으로는 재구성하지 않음)
+ * - 태그 조건(OR / AND / NOT)은 메모리에서 비트맵 연산으로 계산하고, DB는 최종 후보 게시글만 조회
+ * - 비트맵은 교체 시 복사본을 만들어 바꾸므로 조회 중인 비트맵은 변경되지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostTagBitmapIndex {
+
+    // 같은 단계(일치한 태그 수)에서 좋아요 수, 댓글 수로 다시 정렬할 최신 게시글 수
+    private static final int MAX_TIER_CANDIDATES = 1000;
+
+    private final TagRepository tagRepository;
+    private final PostTagRepository postTagRepository;
+
+    // 태그 → 게시글 비트맵 스냅샷 (비트맵 단위로 교체)
+    private final FingerprintedSnapshot<Snapshot> snapshot =
+            new FingerprintedSnapshot<>("Post tag index", this::loadFingerprint, previous -> build());
+
+    /**
+     * 태그 조건으로 게시글 검색
+     * 단계 순서: anyOf 중 일치한 태그 수가 많은 순, 단계 안에서는 최신 게시글(게시글 ID 내림차순)
+     * 같은 단계 안의 최종 순서(좋아요 수, 댓글 수)는 SearchResult.rank()로 결정
+     * @param anyOf 하나 이상 포함해야 하는 태그 (OR)
+     * @param allOf 모두 포함해야 하는 태그 (AND)
+     * @param noneOf 포함하지 않아야 하는 태그 (NOT)
+     * @param offset 건너뛸 게시글 수
+     * @param limit 최대 결과 수
+     * @return offset ~ offset + limit 구간에 걸친 단계별 후보 게시글 ID와 전체 일치 게시글 수
+     */
+    public SearchResult search(Collection<String> anyOf, Collection<String> allOf, Collection<String> noneOf,
+                               int offset, int limit) {
+        Snapshot current = snapshot.get();
+        List<RoaringBitmap> anyOfBitmaps = bitmaps(current, anyOf);
+        List<RoaringBitmap> allOfBitmaps = bitmaps(current, allOf);
+
+        // 조건이 없거나, 존재하지 않는 AND 태그가 있으면 결과 없음
+        if ((isEmpty(anyOf) && isEmpty(allOf)) || allOfBitmaps.size() < distinctCount(allOf)) {
+            return SearchResult.EMPTY;
+        }
+
+        // 1. 후보 = AND 교집합 ∩ OR 합집합 − NOT 합집합
+        RoaringBitmap candidates = null;
+        for (RoaringBitmap bitmap : allOfBitmaps) {
+            candidates = candidates == null ? bitmap.clone() : RoaringBitmap.and(candidates, bitmap);
+        }
+        if (!isEmpty(anyOf)) {
+            RoaringBitmap union = RoaringBitmap.or(anyOfBitmaps.iterator());
+            candidates = candidates == null ? union : RoaringBitmap.and(candidates, union);
+        }
+        for (RoaringBitmap bitmap : bitmaps(current, noneOf)) {
+            candidates = RoaringBitmap.andNot(candidates, bitmap);
+        }
+        if (candidates.isEmpty()) {
+            return SearchResult.EMPTY;
+        }
+
+        // 2. 일치한 OR 태그 수별 단계 비트맵 (levels[i] = i+1개 이상 일치한 게시글)
+        List<RoaringBitmap> levels = new ArrayList<>();
+        levels.add(candidates);
+        if (anyOfBitmaps.size() > 1) {
+            levels.set(0, new RoaringBitmap());
+            for (RoaringBitmap bitmap : anyOfBitmaps) {
+                RoaringBitmap matched = RoaringBitmap.and(bitmap, candidates);
+                for (int i = levels.size() - 1; i >= 0; i--) {
+                    RoaringBitmap promoted = RoaringBitmap.and(levels.get(i), matched);
+                    if (promoted.isEmpty()) {
+                        continue;
+                    }
+                    if (i + 1 == levels.size()) {
+                        levels.add(promoted);
+                    } else {
+                        levels.get(i + 1).or(promoted);
+                    }
+                }
+                levels.get(0).or(matched);
+            }
+        }
+
+        // 3. 높은 단계부터 offset ~ offset + limit 구간에 걸친 단계만 후보로 추출 (단계별 최신 MAX_TIER_CANDIDATES개)
+        List<List<Long>> tiers = new ArrayList<>();
+        long end = (long) offset + limit;
+        long covered = 0;
+        int skip = 0;
+        for (int i = levels.size() - 1; i >= 0 && covered < end; i--) {
+            RoaringBitmap tier = i + 1 < levels.size() ? RoaringBitmap.andNot(levels.get(i), levels.get(i + 1)) : levels.get(i);
+            long cardinality = tier.getLongCardinality();
+            if (covered + cardinality <= offset) {
+                covered += cardinality;
+                continue;
+            }
+            if (tiers.isEmpty()) {
+                skip = (int) (offset - covered);
+            }
+
+            // 요청 구간이 후보 수를 넘으면 구간 끝까지 추출
+            long maxCandidates = Math.max(MAX_TIER_CANDIDATES, end - covered);
+            List<Long> tierPostIds = new ArrayList<>();
+            IntIterator iterator = tier.getReverseIntIterator();
+            while (iterator.hasNext() && tierPostIds.size() < maxCandidates) {
+                tierPostIds.add(Integer.toUnsignedLong(iterator.next()));
+            }
+            tiers.add(tierPostIds);
+            covered += cardinality;
+        }
+
+        return new SearchResult(tiers, skip, limit, candidates.getLongCardinality());
+    }
+
+    /**
+     * 게시글-태그 관계 추가 반영 (커밋 후 호출)
+     */
+    public void add(Long relationId, Tag tag, Long postId) {
+        Snapshot current = snapshot.peek();
+        if (current == null || relationId == null || tag == null || tag.getTagId() == null || !isIndexable(postId)) {
+            return;
+        }
+        snapshot.updateFingerprint(fingerprint -> List.of((long) fingerprint.get(0) + 1, (long) fingerprint.get(1) + relationId));
+        current.tagIdsByName.putIfAbsent(tag.getTagName(), tag.getTagId());
+        current.postsByTag.compute(tag.getTagId(), (tagId, bitmap) -> {
+            RoaringBitmap updated = bitmap != null ? bitmap.clone() : new RoaringBitmap();
+            updated.add(postId.intValue());
+            return updated;
+        });
+    }
+
+    /**
+     * 게시글-태그 관계 삭제 반영 (커밋 후 호출)
+     */
+    public void remove(Long relationId, Tag tag, Long postId) {
+        Snapshot current = snapshot.peek();
+        if (current == null || relationId == null || tag == null || tag.getTagId() == null || !isIndexable(postId)) {
+            return;
+        }
+        snapshot.updateFingerprint(fingerprint -> List.of((long) fingerprint.get(0) - 1, (long) fingerprint.get(1) - relationId));
+        current.postsByTag.computeIfPresent(tag.getTagId(), (tagId, bitmap) -> {
+            RoaringBitmap updated = bitmap.clone();
+            updated.remove(postId.intValue());
+            return updated;
+        });
+    }
+
+    /**
+     * 태그 변경 등 증분 반영이 어려운 변경 시 호출 (다음 조회 시 재구성)
+     */
+    public void invalidate() {
+        snapshot.invalidate();
+    }
+
+    /**
+     * 다른 서버(메인 애플리케이션)에서 발생한 변경을 감지하기 위한 주기적 확인
+     */
+    @Scheduled(fixedDelayString = "${pettalk.index.refresh-interval-ms:60000}")
+    public void refreshIfChanged() {
+        snapshot.refreshIfChanged();
+    }
+
+    private Snapshot build() {
+        long start = System.currentTimeMillis();
+
+        Map<String, Long> tagIdsByName = new ConcurrentHashMap<>();
+        for (Tag tag : tagRepository.findAll()) {
+            tagIdsByName.put(tag.getTagName(), tag.getTagId());
+        }
+
+        Map<Long, RoaringBitmap> postsByTag = new ConcurrentHashMap<>();
+        long relations = 0;
+        for (PostTagRepository.PostTagIdProjection relation : postTagRepository.findAllPostTagIds()) {
+            if (!isIndexable(relation.getPostId())) {
+                continue;
+            }
+            postsByTag.computeIfAbsent(relation.getTagId(), k -> new RoaringBitmap()).add(relation.getPostId().intValue());
+            relations++;
+        }
+        postsByTag.values().forEach(RoaringBitmap::runOptimize);
+
+        long bytes = postsByTag.values().stream().mapToLong(RoaringBitmap::getLongSizeInBytes).sum();
+        log.info("Post tag index built: {} tags, {} relations, {} bytes in {}ms",
+                postsByTag.size(), relations, bytes, System.currentTimeMillis() - start);
+
+        return new Snapshot(tagIdsByName, postsByTag);
+    }
+
+    // 관계 수, 관계 ID 합계 (추가/삭제 시 증분 계산 가능)
+    private List<Object> loadFingerprint() {
+        Object[] relationStats = postTagRepository.findCountAndIdSum().get(0);
+        return List.of(((Number) relationStats[0]).longValue(), ((Number) relationStats[1]).longValue());
+    }
+
+    // 태그 이름 → 비트맵 (존재하지 않는 태그는 제외, 중복 제거)
+    private static List<RoaringBitmap> bitmaps(Snapshot current, Collection<String> tagNames) {
+        if (isEmpty(tagNames)) {
+            return Collections.emptyList();
+        }
+        List<RoaringBitmap> result = new ArrayList<>();
+        for (String tagName : new LinkedHashSet<>(tagNames)) {
+            Long tagId = current.tagIdsByName.get(tagName);
+            RoaringBitmap bitmap = tagId != null ? current.postsByTag.get(tagId) : null;
+            if (bitmap != null) {
+                result.add(bitmap);
+            }
+        }
+        return result;
+    }
+
+    // 게시글 ID는 int 범위의 AUTO_INCREMENT 값이라고 가정 (범위를 벗어나면 인덱스에서 제외)
+    private static boolean isIndexable(Long postId) {
+        return postId != null && postId >= 0 && postId <= Integer.MAX_VALUE;
+    }
+
+    private static boolean isEmpty(Collection<String> values) {
+        return values == null || values.isEmpty();
+    }
+
+    private static int distinctCount(Collection<String> values) {
+        return isEmpty(values) ? 0 : new HashSet<>(values).size();
+    }
+
+    /**
+     * 검색 결과
+     * @param tiers 요청한 구간에 걸친 단계별 후보 게시글 ID (높은 단계부터, 단계 안에서는 최신순)
+     * @param skip 첫 단계에서 정렬 후 건너뛸 게시글 수
+     * @param limit 최대 결과 수
+     * @param totalCount 조건을 만족하는 전체 게시글 수
+     */
+    public record SearchResult(List<List<Long>> tiers, int skip, int limit, long totalCount) {
+        static final SearchResult EMPTY = new SearchResult(Collections.emptyList(), 0, 0, 0);
+
+        /**
+         * 후보 게시글 ID 전체 (동점 정렬 기준 조회용)
+         */
+        public List<Long> candidatePostIds() {
+            return tiers.stream().flatMap(List::stream).toList();
+        }
+
+        /**
+         * 단계 순서를 유지하고 단계 안에서만 주어진 기준으로 정렬한 요청 구간의 게시글 ID
+         * @param tieBreaker 같은 단계 안의 정렬 기준 (예: 좋아요 수, 댓글 수)
+         */
+        public List<Long> rank(Comparator<Long> tieBreaker) {
+            List<Long> postIds = new ArrayList<>(Math.max(limit, 0));
+            int skipped = 0;
+            for (List<Long> tier : tiers) {
+                List<Long> sorted = new ArrayList<>(tier);
+                // 최신순 목록에서 안정 정렬하므로 기준이 같으면 최신 게시글 우선
+                sorted.sort(tieBreaker);
+                for (Long postId : sorted) {
+                    if (postIds.size() >= limit) {
+                        return postIds;
+                    }
+                    if (skipped < skip) {
+                        skipped++;
+                        continue;
+                    }
+                    postIds.add(postId);
+                }
+            }
+            return postIds;
+        }
+    }
+
+    private record Snapshot(
+            Map<String, Long> tagIdsByName,
+            Map<Long, RoaringBitmap> postsByTag
+    ) {}
+}
@@ -0,0 +1,58 @@
+package org.lucky0111.pettalkmcpserver.index;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.lucky0111.pettalkmcpserver.domain.entity.common.Tag;
+import org.lucky0111.pettalkmcpserver.domain.entity.community.PostTagRelation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * PostTagRelation 추가/삭제 시 태그-게시글 비트맵 인덱스에 커밋 후 증분 반영
+ * (Hibernate가 Spring 빈 컨테이너를 통해 생성하므로 의존성 주입 가능, 순환 참조 방지를 위해 ObjectProvider 사용)
+ */
+public class PostTagIndexEntityListener {
+
+    private final ObjectProvider<PostTagBitmapIndex> postTagBitmapIndex;
+
+    public PostTagIndexEntityListener(ObjectProvider<PostTagBitmapIndex> postTagBitmapIndex) {
+        this.postTagBitmapIndex = postTagBitmapIndex;
+    }
+
+    @PostPersist
+    public void onPersist(PostTagRelation relation) {
+        Tag tag = relation.getTag();
+        Long postId = relation.getPost() != null ? relation.getPost().getPostId() : null;
+        Long relationId = relation.getId();
+        afterCommit(() -> postTagBitmapIndex.ifAvailable(index -> index.add(relationId, tag, postId)));
+    }
+
+    @PostRemove
+    public void onRemove(PostTagRelation relation) {
+        Tag tag = relation.getTag();
+        Long postId = relation.getPost() != null ? relation.getPost().getPostId() : null;
+        Long relationId = relation.getId();
+        afterCommit(() -> postTagBitmapIndex.ifAvailable(index -> index.remove(relationId, tag, postId)));
+    }
+
+    // 태그나 게시글이 바뀌는 경우는 드물므로 전체 재구성
+    @PostUpdate
+    public void onUpdate(PostTagRelation relation) {
+        afterCommit(() -> postTagBitmapIndex.ifAvailable(PostTagBitmapIndex::invalidate));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
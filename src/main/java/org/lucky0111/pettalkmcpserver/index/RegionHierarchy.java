@@ -0,0 +1,285 @@
+package org.lucky0111.pettalkmcpserver.index;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.lucky0111.pettalkmcpserver.metrics.SqlStatementCounter;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * 지역 계층 구조 (광역 → 시/도 → 시/군/구 → 생활권)
+ * - region/region-hierarchy.txt 를 시작 시 한 번 로딩
+ * - 지역명 정규화 (행정구역 단위, 특별시/광역시 등 접미사 제거, 도 이름 약칭 변환)
+ * - 상위 지역을 훈련사 데이터에 존재하는 모든 하위 지역으로 확장
+ * - 같은 이름의 지역(중구, 강서, 고성 등)은 경로("부산/강서")로 구분하며, 확장 범위 밖에도 같은 이름이 있으면 확장하지 않음
+ *   (trainer_areas.area_code는 이름만 저장하므로 "부산" 확장 시 서울 강서 훈련사가 포함되는 것 방지)
+ */
+@Slf4j
+@Component
+public class RegionHierarchy {
+
+    private static final String HIERARCHY_RESOURCE = "region/region-hierarchy.txt";
+
+    // 행정구역 단위 리스트
+    private static final List<String> ADMINISTRATIVE_UNITS = Arrays.asList(
+            "시", "도", "군", "구", "읍", "면", "동", "리"
+    );
+
+    // 광역 행정구역 접미사 (단위보다 먼저 제거)
+    private static final List<String> METROPOLITAN_SUFFIXES = Arrays.asList(
+            "특별자치시", "특별자치도", "특별시", "광역시"
+    );
+
+    // 도 이름 약칭
+    private static final Map<String, String> PROVINCE_ALIASES = Map.ofEntries(
+            Map.entry("충청북도", "충북"),
+            Map.entry("충청남도", "충남"),
+            Map.entry("전라북도", "전북"),
+            Map.entry("전라남도", "전남"),
+            Map.entry("경상북도", "경북"),
+            Map.entry("경상남도", "경남")
+    );
+
+    private static final String PATH_SEPARATOR = "/";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 지역 경로 → 하위 지역 경로 (예: "부산" → ["부산/중구", "부산/강서", ...])
+    private Map<String, List<String>> children = Collections.emptyMap();
+
+    // 정규화된 지역명 → 해당 이름의 모든 지역 경로 (예: "강서" → ["수도권/서울/강서", "부산/강서"])
+    private Map<String, Set<String>> pathsByName = Collections.emptyMap();
+
+    // 훈련사 방문 가능 지역에 등장하는 정규화된 지역명 (trainer_areas.area_code)
+    private volatile Set<String> knownAreas;
+
+    @PostConstruct
+    void load() {
+        // 파일의 부모 지역명 → 하위 지역명
+        Map<String, Set<String>> loaded = new LinkedHashMap<>();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ClassPathResource(HIERARCHY_RESOURCE).getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+
+                String[] parts = line.split("→", 2);
+                if (parts.length != 2) {
+                    log.warn("Invalid region hierarchy line: {}", line);
+                    continue;
+                }
+
+                String parent = normalize(parts[0]);
+                Set<String> childSet = loaded.computeIfAbsent(parent, k -> new LinkedHashSet<>());
+                for (String child : parts[1].split(",")) {
+                    String normalizedChild = normalize(child);
+                    if (!normalizedChild.isEmpty() && !normalizedChild.equals(parent)) {
+                        childSet.add(normalizedChild);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("지역 계층 구조를 불러올 수 없습니다: " + HIERARCHY_RESOURCE, e);
+        }
+
+        // 다른 지역의 하위로 등장하지 않는 부모 지역부터 경로 구성
+        Set<String> childNames = new HashSet<>();
+        loaded.values().forEach(childNames::addAll);
+
+        Map<String, List<String>> childPaths = new HashMap<>();
+        Map<String, Set<String>> namePaths = new HashMap<>();
+        for (String root : loaded.keySet()) {
+            if (!childNames.contains(root)) {
+                addRegion(root, root, loaded, childPaths, namePaths);
+            }
+        }
+
+        children = Collections.unmodifiableMap(childPaths);
+        pathsByName = Collections.unmodifiableMap(namePaths);
+        log.info("Region hierarchy loaded: {} parent regions, {} regions", children.size(), pathsByName.size());
+    }
+
+    private void addRegion(String path, String name, Map<String, Set<String>> loaded,
+                           Map<String, List<String>> childPaths, Map<String, Set<String>> namePaths) {
+        namePaths.computeIfAbsent(name, k -> new LinkedHashSet<>()).add(path);
+        for (String child : loaded.getOrDefault(name, Collections.emptySet())) {
+            // 순환 방지 (경로에 이미 있는 지역)
+            if ((PATH_SEPARATOR + path + PATH_SEPARATOR).contains(PATH_SEPARATOR + child + PATH_SEPARATOR)) {
+                continue;
+            }
+            String childPath = path + PATH_SEPARATOR + child;
+            childPaths.computeIfAbsent(path, k -> new ArrayList<>()).add(childPath);
+            addRegion(childPath, child, loaded, childPaths, namePaths);
+        }
+    }
+
+    /**
+     * 지역명 정규화
+     * 예: "서울특별시" → "서울", "경기도" → "경기", "강남구" → "강남", "충청북도" → "충북"
+     * 단위 제거 후 한 글자만 남는 경우(예: "중구", "강동")는 제거하지 않음
+     */
+    public static String normalize(String area) {
+        if (area == null || area.isBlank()) {
+            return "";
+        }
+
+        String processedArea = area.trim().replaceAll("\\s+", "");
+
+        String alias = PROVINCE_ALIASES.get(processedArea);
+        if (alias != null) {
+            return alias;
+        }
+
+        for (String suffix : METROPOLITAN_SUFFIXES) {
+            if (processedArea.endsWith(suffix) && processedArea.length() > suffix.length()) {
+                return processedArea.substring(0, processedArea.length() - suffix.length());
+            }
+        }
+
+        // 행정구역 단위 제거 (하나의 단위만 제거)
+        for (String unit : ADMINISTRATIVE_UNITS) {
+            if (processedArea.endsWith(unit) && processedArea.length() - unit.length() >= 2) {
+                return processedArea.substring(0, processedArea.length() - unit.length());
+            }
+        }
+
+        return processedArea;
+    }
+
+    /**
+     * 사용자가 입력한 지역 목록을 정규화하고, 상위 지역은 훈련사 데이터에 존재하는 하위 지역으로 확장
+     * 예: ["경기"] → ["경기", "성남", "분당", "동탄", ...]
+     * @param areas 사용자 입력 지역 목록
+     * @return 검색에 사용할 정규화된 지역명 (입력 지역 우선, 중복 제거)
+     */
+    public Set<String> expand(Collection<String> areas) {
+        Set<String> result = new LinkedHashSet<>();
+        if (areas == null) {
+            return result;
+        }
+
+        Set<String> known = knownAreas();
+        for (String area : areas) {
+            String normalized = normalize(area);
+            if (normalized.isEmpty()) {
+                continue;
+            }
+
+            // 사용자가 입력한 지역은 항상 포함
+            result.add(normalized);
+
+            for (String descendant : descendants(normalized)) {
+                if (isKnown(descendant, known)) {
+                    result.add(descendant);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * 사용자가 입력한 지역 목록을 trainer_areas에 저장된 지역 코드 목록으로 변환
+     * 확장된 지역명을 포함하는 지역 코드를 모두 찾음 (기존 LIKE '%지역%' 검색과 동일한 범위, DB에서는 IN 조건 사용)
+     * @param areas 사용자 입력 지역 목록
+     * @return trainer_areas.area_code 목록
+     */
+    public Set<String> resolveAreaCodes(Collection<String> areas) {
+        Set<String> known = knownAreas();
+        Set<String> result = new LinkedHashSet<>();
+
+        for (String area : expand(areas)) {
+            if (known.contains(area)) {
+                result.add(area);
+            }
+            for (String knownArea : known) {
+                if (knownArea.contains(area)) {
+                    result.add(knownArea);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * 훈련사 방문 가능 지역 변경 반영 (다음 확장 시 다시 조회)
+     */
+    @Scheduled(fixedDelayString = "${pettalk.index.refresh-interval-ms:60000}")
+    public void invalidateKnownAreas() {
+        knownAreas = null;
+    }
+
+    // 하위 지역명 전체 (너비 우선)
+    // 같은 이름의 지역이 확장 범위 밖에도 있으면 제외 (예: "부산" 확장 시 서울에도 있는 "강서", "중구")
+    private List<String> descendants(String area) {
+        Set<String> subtree = new LinkedHashSet<>();
+        Deque<String> queue = new ArrayDeque<>();
+        for (String path : pathsByName.getOrDefault(area, Collections.emptySet())) {
+            queue.addAll(children.getOrDefault(path, Collections.emptyList()));
+        }
+
+        while (!queue.isEmpty()) {
+            String current = queue.poll();
+            if (subtree.add(current)) {
+                queue.addAll(children.getOrDefault(current, Collections.emptyList()));
+            }
+        }
+
+        Set<String> result = new LinkedHashSet<>();
+        for (String path : subtree) {
+            String name = nameOf(path);
+            if (!name.equals(area) && subtree.containsAll(pathsByName.get(name))) {
+                result.add(name);
+            }
+        }
+        return new ArrayList<>(result);
+    }
+
+    private static String nameOf(String path) {
+        return path.substring(path.lastIndexOf(PATH_SEPARATOR) + 1);
+    }
+
+    // LIKE '%지역%' 검색과 동일하게 훈련사 지역명에 포함되어 있으면 존재하는 지역으로 판단
+    private boolean isKnown(String area, Set<String> known) {
+        if (known.contains(area)) {
+            return true;
+        }
+        for (String knownArea : known) {
+            if (knownArea.contains(area)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Set<String> knownAreas() {
+        Set<String> current = knownAreas;
+        if (current == null) {
+            // 갱신 주기마다 한 번만 조회하므로 도구 호출별 SQL 예산에서 제외
+            List<String> areaCodes = SqlStatementCounter.background(() -> entityManager
+                    .createQuery("SELECT DISTINCT ta.areaCode FROM TrainerArea ta", String.class)
+                    .getResultList());
+
+            Set<String> loaded = new HashSet<>(areaCodes);
+
+            current = Collections.unmodifiableSet(loaded);
+            knownAreas = current;
+        }
+        return current;
+    }
+}
@@ -0,0 +1,80 @@
+package org.lucky0111.pettalkmcpserver.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.lucky0111.pettalkmcpserver.domain.entity.common.Tag;
+import org.lucky0111.pettalkmcpserver.repository.common.TagRepository;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * DB에 저장된 태그 이름 목록의 불변 스냅샷
+ * - 태그 변경 시에만 다시 조회, 목록이 실제로 달라진 경우에만 version 증가
+ * - 다른 서버(메인 애플리케이션)에서 발생한 변경은 태그 수, (ID, 이름) 체크섬으로 주기적으로 감지
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagCatalog {
+
+    private final TagRepository tagRepository;
+
+    // 불변 스냅샷 (갱신 시 통째로 교체)
+    private final FingerprintedSnapshot<Snapshot> snapshot =
+            new FingerprintedSnapshot<>("Tag catalog", this::loadFingerprint, this::build);
+
+    public Snapshot get() {
+        return snapshot.get();
+    }
+
+    /**
+     * 태그 변경 시 호출 (다음 조회 시 다시 구성)
+     */
+    public void invalidate() {
+        snapshot.invalidate();
+    }
+
+    /**
+     * 다른 서버(메인 애플리케이션)에서 발생한 변경을 감지하기 위한 주기적 확인
+     */
+    @Scheduled(fixedDelayString = "${pettalk.index.refresh-interval-ms:60000}")
+    public void refreshIfChanged() {
+        snapshot.refreshIfChanged();
+    }
+
+    private Snapshot build(Snapshot previous) {
+        List<String> tagNames = tagRepository.findAll(Sort.by("tagId")).stream()
+                .map(Tag::getTagName)
+                .toList();
+
+        if (previous != null && previous.tagNames.equals(tagNames)) {
+            return previous;
+        }
+
+        long version = previous != null ? previous.version + 1 : 1;
+        log.info("Tag catalog built: version {}, {} tags", version, tagNames.size());
+        return new Snapshot(version, tagNames);
+    }
+
+    private List<Object> loadFingerprint() {
+        return loadTagFingerprint(tagRepository);
+    }
+
+    /**
+     * 태그 변경 감지 지문: 태그 수, (ID, 이름) 체크섬 (이름 변경도 감지, TrainerTagMatchIndex와 공유)
+     */
+    static List<Object> loadTagFingerprint(TagRepository tagRepository) {
+        List<Object[]> tags = tagRepository.findAllIdsAndNames();
+        List<String> entries = tags.stream().map(tag -> tag[0] + ":" + tag[1]).toList();
+        return List.of((long) entries.size(), FingerprintedSnapshot.checksum(entries));
+    }
+
+    /**
+     * @param version 태그 목록 버전
+     * @param tagNames 태그 이름 목록 (태그 ID 순, 불변)
+     */
+    public record Snapshot(long version, List<String> tagNames) {}
+}
@@ -0,0 +1,52 @@
+package org.lucky0111.pettalkmcpserver.index;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.lucky0111.pettalkmcpserver.domain.entity.common.Tag;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Tag, TrainerTagRelation 변경 커밋 후 태그 인덱스 무효화 (Tag 변경 시 태그 목록도 무효화)
+ * (Hibernate가 Spring 빈 컨테이너를 통해 생성하므로 의존성 주입 가능, 순환 참조 방지를 위해 ObjectProvider 사용)
+ */
+public class TagIndexEntityListener {
+
+    private final ObjectProvider<TrainerTagMatchIndex> trainerTagMatchIndex;
+    private final ObjectProvider<TagCatalog> tagCatalog;
+
+    public TagIndexEntityListener(ObjectProvider<TrainerTagMatchIndex> trainerTagMatchIndex,
+                                  ObjectProvider<TagCatalog> tagCatalog) {
+        this.trainerTagMatchIndex = trainerTagMatchIndex;
+        this.tagCatalog = tagCatalog;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        boolean tagChanged = entity instanceof Tag;
+        // 커밋 전에 무효화하면 동시에 재구성한 스냅샷이 변경 전 데이터로 남음
+        afterCommit(() -> {
+            trainerTagMatchIndex.ifAvailable(TrainerTagMatchIndex::invalidate);
+            if (tagChanged) {
+                tagCatalog.ifAvailable(TagCatalog::invalidate);
+            }
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package org.lucky0111.pettalkmcpserver.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.*;
+
+/**
+ * 키워드로 태그를 찾기 위한 인메모리 접미사 트라이
+ * - 태그 이름의 모든 접미사를 트라이에 넣어, 키워드로 트라이를 한 번 따라가면 키워드를 포함하는 태그를 모두 찾음
+ * - 초성 검색: 태그 이름의 초성 문자열(예: "배변훈련" → "ㅂㅂㅎㄹ")로 만든 트라이를 별도로 유지
+ * - TagCatalog 스냅샷 버전이 바뀌면 다시 구성
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagLookupIndex {
+
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private static final char HANGUL_SYLLABLE_START = '가';
+    private static final char HANGUL_SYLLABLE_END = '힣';
+    private static final int SYLLABLES_PER_CHOSEONG = 21 * 28;
+
+    private final TagCatalog tagCatalog;
+
+    // 불변 스냅샷 (태그 목록 버전이 바뀌면 통째로 교체)
+    private volatile Snapshot snapshot;
+
+    /**
+     * 키워드와 일치하는 태그 이름 조회
+     * 정렬 순서: 정확히 일치 → 접두사 일치 → 부분 일치 → 초성 일치, 같은 순위에서는 짧은 태그 우선
+     * @param keyword 검색 키워드 (초성만 입력하면 초성 검색)
+     * @param limit 최대 결과 수
+     * @return 태그 이름 목록
+     */
+    public List<String> find(String keyword, int limit) {
+        String normalizedKeyword = normalize(keyword);
+        if (normalizedKeyword.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        Snapshot current = currentSnapshot();
+
+        // 태그 순번 → 순위 (0: 정확히, 1: 접두사, 2: 부분, 3: 초성)
+        Map<Integer, Integer> ranks = new HashMap<>();
+        for (int tag : current.nameTrie.find(normalizedKeyword)) {
+            String name = current.normalizedNames[tag];
+            int rank = name.equals(normalizedKeyword) ? 0 : name.startsWith(normalizedKeyword) ? 1 : 2;
+            ranks.put(tag, rank);
+        }
+        if (isChoseongOnly(normalizedKeyword)) {
+            for (int tag : current.choseongTrie.find(normalizedKeyword)) {
+                ranks.putIfAbsent(tag, 3);
+            }
+        }
+
+        return ranks.entrySet().stream()
+                .sorted(Comparator.<Map.Entry<Integer, Integer>>comparingInt(Map.Entry::getValue)
+                        .thenComparingInt(entry -> current.tagNames.get(entry.getKey()).length())
+                        .thenComparingInt(Map.Entry::getKey))
+                .limit(limit)
+                .map(entry -> current.tagNames.get(entry.getKey()))
+                .toList();
+    }
+
+    private Snapshot currentSnapshot() {
+        TagCatalog.Snapshot catalog = tagCatalog.get();
+        Snapshot current = snapshot;
+        if (current == null || current.version != catalog.version()) {
+            synchronized (this) {
+                if (snapshot == null || snapshot.version != catalog.version()) {
+                    snapshot = build(catalog);
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private Snapshot build(TagCatalog.Snapshot catalog) {
+        long start = System.currentTimeMillis();
+        List<String> tagNames = catalog.tagNames();
+        String[] normalizedNames = new String[tagNames.size()];
+        SuffixTrie nameTrie = new SuffixTrie();
+        SuffixTrie choseongTrie = new SuffixTrie();
+
+        for (int tag = 0; tag < tagNames.size(); tag++) {
+            normalizedNames[tag] = normalize(tagNames.get(tag));
+            nameTrie.addSuffixes(normalizedNames[tag], tag);
+            choseongTrie.addSuffixes(toChoseong(normalizedNames[tag]), tag);
+        }
+
+        log.info("Tag lookup index built: version {}, {} tags, {} nodes in {}ms",
+                catalog.version(), tagNames.size(), nameTrie.nodeCount + choseongTrie.nodeCount,
+                System.currentTimeMillis() - start);
+
+        return new Snapshot(catalog.version(), tagNames, normalizedNames, nameTrie, choseongTrie);
+    }
+
+    // 공백 제거, NFC 정규화, 소문자 변환
+    static String normalize(String value) {
+        if (value == null || value.isBlank()) {
+            return "";
+        }
+        return Normalizer.normalize(value, Normalizer.Form.NFC)
+                .replaceAll("\\s+", "")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    // 한글 음절은 초성으로 변환, 그 외 문자는 그대로 유지
+    static String toChoseong(String value) {
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= HANGUL_SYLLABLE_START && c <= HANGUL_SYLLABLE_END) {
+                sb.append(CHOSEONG[(c - HANGUL_SYLLABLE_START) / SYLLABLES_PER_CHOSEONG]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    // 키워드가 초성(호환용 자음)으로만 이루어져 있는지 여부
+    private static boolean isChoseongOnly(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (Arrays.binarySearch(CHOSEONG, value.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 접미사 트라이: 각 노드에 해당 경로를 부분 문자열로 가지는 태그 순번을 보관
+     * (태그를 순번 순서로 추가하므로 노드별 목록은 정렬되어 있고 중복 없음)
+     */
+    private static final class SuffixTrie {
+
+        private final Node root = new Node();
+        private int nodeCount = 1;
+
+        void addSuffixes(String value, int tag) {
+            for (int start = 0; start < value.length(); start++) {
+                Node node = root;
+                for (int i = start; i < value.length(); i++) {
+                    Node child = node.children.get(value.charAt(i));
+                    if (child == null) {
+                        child = new Node();
+                        node.children.put(value.charAt(i), child);
+                        nodeCount++;
+                    }
+                    child.addTag(tag);
+                    node = child;
+                }
+            }
+        }
+
+        int[] find(String keyword) {
+            Node node = root;
+            for (int i = 0; i < keyword.length() && node != null; i++) {
+                node = node.children.get(keyword.charAt(i));
+            }
+            return node != null ? Arrays.copyOf(node.tags, node.size) : new int[0];
+        }
+    }
+
+    private static final class Node {
+
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private int[] tags = new int[2];
+        private int size;
+
+        void addTag(int tag) {
+            if (size > 0 && tags[size - 1] == tag) {
+                return;
+            }
+            if (size == tags.length) {
+                tags = Arrays.copyOf(tags, size * 2);
+            }
+            tags[size++] = tag;
+        }
+    }
+
+    private record Snapshot(
+            long version,
+            List<String> tagNames,
+            String[] normalizedNames,
+            SuffixTrie nameTrie,
+            SuffixTrie choseongTrie
+    ) {}
+}
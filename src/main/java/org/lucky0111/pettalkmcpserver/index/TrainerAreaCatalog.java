@@ -0,0 +1,65 @@
+package org.lucky0111.pettalkmcpserver.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.lucky0111.pettalkmcpserver.domain.dto.trainer.TrainerAreaCatalogDTO;
+import org.lucky0111.pettalkmcpserver.domain.dto.trainer.TrainerAreaCountDTO;
+import org.lucky0111.pettalkmcpserver.metrics.SqlStatementCounter;
+import org.lucky0111.pettalkmcpserver.repository.trainer.TrainerAreaRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 훈련사 방문 가능 지역 목록 (정규화된 지역명 + 훈련사 수)
+ * - trainer_areas 집계 결과를 불변 스냅샷으로 보관, 변경 시에만 다시 집계
+ * - 집계 결과가 실제로 달라진 경우에만 version 증가
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrainerAreaCatalog {
+
+    private final TrainerAreaRepository trainerAreaRepository;
+
+    // 불변 스냅샷 (갱신 시 통째로 교체)
+    private volatile TrainerAreaCatalogDTO snapshot;
+    private volatile boolean dirty = true;
+
+    public TrainerAreaCatalogDTO get() {
+        TrainerAreaCatalogDTO current = snapshot;
+        if (current == null || dirty) {
+            synchronized (this) {
+                if (snapshot == null || dirty) {
+                    dirty = false;
+                    TrainerAreaCatalogDTO previous = snapshot;
+                    // 재구성 조회는 여러 호출에 걸쳐 분산되므로 도구 호출별 SQL 예산에서 제외
+                    snapshot = SqlStatementCounter.background(() -> build(previous));
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * trainer_areas 변경 시 호출 (다음 조회 시 다시 집계)
+     */
+    public void invalidate() {
+        dirty = true;
+    }
+
+    private TrainerAreaCatalogDTO build(TrainerAreaCatalogDTO previous) {
+        List<TrainerAreaCountDTO> areas = trainerAreaRepository.findAreaCounts().stream()
+                .map(area -> new TrainerAreaCountDTO(area.getAreaCode(), area.getTrainerCount()))
+                .toList();
+
+        if (previous != null && previous.areas().equals(areas)) {
+            return previous;
+        }
+
+        long version = previous != null ? previous.version() + 1 : 1;
+        log.info("Trainer area catalog built: version {}, {} areas", version, areas.size());
+        return new TrainerAreaCatalogDTO(version, areas);
+    }
+}
@@ -0,0 +1,48 @@
+package org.lucky0111.pettalkmcpserver.index;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * TrainerArea 변경 시 지역 목록 및 지역 확장용 지역명 캐시 무효화
+ * (Hibernate가 Spring 빈 컨테이너를 통해 생성하므로 의존성 주입 가능, 순환 참조 방지를 위해 ObjectProvider 사용)
+ */
+public class TrainerAreaEntityListener {
+
+    private final ObjectProvider<TrainerAreaCatalog> trainerAreaCatalog;
+    private final ObjectProvider<RegionHierarchy> regionHierarchy;
+
+    public TrainerAreaEntityListener(ObjectProvider<TrainerAreaCatalog> trainerAreaCatalog,
+                                     ObjectProvider<RegionHierarchy> regionHierarchy) {
+        this.trainerAreaCatalog = trainerAreaCatalog;
+        this.regionHierarchy = regionHierarchy;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        // flush 시점이 아닌 커밋 후 무효화 (커밋 전 데이터로 다시 구성되는 것 방지)
+        afterCommit(() -> {
+            trainerAreaCatalog.ifAvailable(TrainerAreaCatalog::invalidate);
+            regionHierarchy.ifAvailable(RegionHierarchy::invalidateKnownAreas);
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
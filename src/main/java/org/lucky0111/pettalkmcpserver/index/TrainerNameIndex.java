@@ -0,0 +1,179 @@
+package org.lucky0111.pettalkmcpserver.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.lucky0111.pettalkmcpserver.domain.common.UserRole;
+import org.lucky0111.pettalkmcpserver.repository.user.PetUserRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.*;
+
+/**
+ * 훈련사 이름/닉네임 n-gram 인메모리 인덱스
+ * - 이름, 닉네임의 1~3글자 n-gram → 문서 비트셋 (문서 = 훈련사 한 명의 이름 또는 닉네임)
+ * - 검색어의 n-gram(최대 3글자)을 공유하는 문서만 후보로 삼고, 유사도(Jaccard)로 정렬
+ * - 기존 '%이름%' 포함 검색 결과는 유사도와 무관하게 우선 정렬 (limit보다 많으면 limit개까지만 반환)
+ * - role = TRAINER 사용자만 대상, PetUser 변경 시 무효화
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrainerNameIndex {
+
+    private static final int MAX_GRAM_LENGTH = 3;
+
+    // 포함 관계가 아닌 후보를 결과에 포함할 최소 유사도
+    private static final double MIN_SIMILARITY = 0.3;
+
+    private final PetUserRepository petUserRepository;
+
+    // 불변 스냅샷 (갱신 시 통째로 교체)
+    private final FingerprintedSnapshot<Snapshot> snapshot =
+            new FingerprintedSnapshot<>("Trainer name index", this::loadFingerprint, previous -> build());
+
+    /**
+     * 이름 또는 닉네임이 검색어와 유사한 훈련사 ID 조회
+     * 정렬 순서: 정확히 일치 → 검색어 포함 → 유사도 높은 순, 점수가 같으면 훈련사 ID 순
+     * @param query 검색어 (훈련사 이름 또는 닉네임)
+     * @param limit 최대 결과 수
+     * @return 훈련사 ID (= 사용자 ID) 목록
+     */
+    public List<UUID> search(String query, int limit) {
+        String normalizedQuery = normalize(query);
+        if (normalizedQuery.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        Snapshot current = snapshot.get();
+        int gramLength = Math.min(MAX_GRAM_LENGTH, normalizedQuery.length());
+        Set<String> queryGrams = grams(normalizedQuery, gramLength);
+
+        // 1. 문서별 공유 n-gram 수 집계 (검색어 n-gram의 문서 비트셋만 방문)
+        int[] sharedGrams = new int[current.docTexts.length];
+        BitSet candidates = new BitSet(current.docTexts.length);
+        for (String gram : queryGrams) {
+            BitSet docs = current.gramToDocs.get(gram);
+            if (docs == null) {
+                continue;
+            }
+            for (int doc = docs.nextSetBit(0); doc >= 0; doc = docs.nextSetBit(doc + 1)) {
+                sharedGrams[doc]++;
+            }
+            candidates.or(docs);
+        }
+
+        // 2. 후보 문서 점수 계산 (같은 훈련사의 이름, 닉네임 중 높은 점수 사용)
+        Map<UUID, Double> scores = new HashMap<>();
+        for (int doc = candidates.nextSetBit(0); doc >= 0; doc = candidates.nextSetBit(doc + 1)) {
+            String text = current.docTexts[doc];
+            double score;
+            if (text.equals(normalizedQuery)) {
+                score = 3.0;
+            } else if (text.contains(normalizedQuery)) {
+                score = 2.0 + similarity(sharedGrams[doc], queryGrams.size(), grams(text, gramLength).size());
+            } else {
+                score = similarity(sharedGrams[doc], queryGrams.size(), grams(text, gramLength).size());
+                if (score < MIN_SIMILARITY) {
+                    continue;
+                }
+            }
+            scores.merge(current.docUserIds[doc], score, Math::max);
+        }
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<UUID, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    /**
+     * 사용자 이름, 닉네임, 역할 변경 시 호출 (다음 조회 시 재구성)
+     */
+    public void invalidate() {
+        snapshot.invalidate();
+    }
+
+    /**
+     * 다른 서버(메인 애플리케이션)에서 발생한 변경을 감지하기 위한 주기적 확인
+     */
+    @Scheduled(fixedDelayString = "${pettalk.index.refresh-interval-ms:60000}")
+    public void refreshIfChanged() {
+        snapshot.refreshIfChanged();
+    }
+
+    private Snapshot build() {
+        long start = System.currentTimeMillis();
+
+        List<UUID> docUserIds = new ArrayList<>();
+        List<String> docTexts = new ArrayList<>();
+        Map<String, BitSet> gramToDocs = new HashMap<>();
+
+        for (PetUserRepository.UserNameProjection user : petUserRepository.findAllNamesByRole(UserRole.TRAINER)) {
+            // 이름과 닉네임이 같으면 하나의 문서로 처리
+            for (String text : new LinkedHashSet<>(Arrays.asList(normalize(user.getName()), normalize(user.getNickname())))) {
+                if (text.isEmpty()) {
+                    continue;
+                }
+                int doc = docTexts.size();
+                docUserIds.add(user.getUserId());
+                docTexts.add(text);
+                for (int gramLength = 1; gramLength <= MAX_GRAM_LENGTH; gramLength++) {
+                    for (String gram : grams(text, gramLength)) {
+                        gramToDocs.computeIfAbsent(gram, k -> new BitSet()).set(doc);
+                    }
+                }
+            }
+        }
+
+        log.info("Trainer name index built: {} documents, {} grams in {}ms",
+                docTexts.size(), gramToDocs.size(), System.currentTimeMillis() - start);
+
+        return new Snapshot(Map.copyOf(gramToDocs), docUserIds.toArray(new UUID[0]),
+                docTexts.toArray(new String[0]));
+    }
+
+    private List<Object> loadFingerprint() {
+        Object[] stats = petUserRepository.findCountAndLastModifiedByRole(UserRole.TRAINER).get(0);
+        // MAX(updatedAt)은 사용자가 없으면 null
+        return Arrays.asList(((Number) stats[0]).longValue(), stats[1]);
+    }
+
+    // Jaccard 유사도: 공유 n-gram 수 / 합집합 n-gram 수
+    private static double similarity(int shared, int queryGramCount, int textGramCount) {
+        int union = queryGramCount + textGramCount - shared;
+        return union > 0 ? (double) shared / union : 0.0;
+    }
+
+    // 길이 n 인 부분 문자열 집합 (문자열이 n 보다 짧으면 문자열 자체)
+    private static Set<String> grams(String text, int gramLength) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (text.length() <= gramLength) {
+            grams.add(text);
+            return grams;
+        }
+        for (int i = 0; i + gramLength <= text.length(); i++) {
+            grams.add(text.substring(i, i + gramLength));
+        }
+        return grams;
+    }
+
+    // 공백 제거, NFC 정규화, 소문자 변환
+    static String normalize(String value) {
+        if (value == null || value.isBlank()) {
+            return "";
+        }
+        return Normalizer.normalize(value, Normalizer.Form.NFC)
+                .replaceAll("\\s+", "")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    private record Snapshot(
+            Map<String, BitSet> gramToDocs,
+            UUID[] docUserIds,
+            String[] docTexts
+    ) {}
+}
@@ -0,0 +1,42 @@
+package org.lucky0111.pettalkmcpserver.index;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * PetUser 변경 커밋 후 훈련사 이름 인덱스 무효화
+ * (Hibernate가 Spring 빈 컨테이너를 통해 생성하므로 의존성 주입 가능, 순환 참조 방지를 위해 ObjectProvider 사용)
+ */
+public class TrainerNameIndexEntityListener {
+
+    private final ObjectProvider<TrainerNameIndex> trainerNameIndex;
+
+    public TrainerNameIndexEntityListener(ObjectProvider<TrainerNameIndex> trainerNameIndex) {
+        this.trainerNameIndex = trainerNameIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        // 커밋 전에 무효화하면 동시에 재구성한 인덱스가 변경 전 데이터로 남음
+        afterCommit(() -> trainerNameIndex.ifAvailable(TrainerNameIndex::invalidate));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package org.lucky0111.pettalkmcpserver.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.lucky0111.pettalkmcpserver.domain.entity.common.Tag;
+import org.lucky0111.pettalkmcpserver.repository.common.TagRepository;
+import org.lucky0111.pettalkmcpserver.repository.trainer.TrainerTagRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.*;
+
+/**
+ * 태그 문자 포함 검색을 위한 인메모리 인덱스
+ * - 문자 → 태그 비트셋, 태그 → 훈련사 비트셋
+ * - 기존 tag_name LIKE '%c%' AND ... 조건과 동일하게 "검색어의 모든 문자를 포함하는 태그"를 찾음
+ * - 한글 자모 분리 입력(NFD)도 완성형(NFC)으로 정규화하여 비교
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrainerTagMatchIndex {
+
+    private final TagRepository tagRepository;
+    private final TrainerTagRepository trainerTagRepository;
+
+    // 불변 스냅샷 (갱신 시 통째로 교체)
+    private final FingerprintedSnapshot<Snapshot> snapshot =
+            new FingerprintedSnapshot<>("Tag index", this::loadFingerprint, previous -> build());
+
+    /**
+     * 검색어 목록 중 하나라도 만족하는 태그 ID와 해당 태그를 가진 훈련사 ID 조회
+     * @param terms 검색어 목록
+     * @return 일치 결과, 유효한 검색어가 없으면 Optional.empty()
+     */
+    public Optional<TagMatch> match(Collection<String> terms) {
+        Snapshot current = snapshot.get();
+
+        BitSet matchedTags = new BitSet(current.tagIds.length);
+        boolean hasCondition = false;
+
+        for (String term : terms) {
+            Set<Character> chars = extractChars(term);
+            if (chars.isEmpty()) {
+                continue;
+            }
+            hasCondition = true;
+
+            // 모든 문자를 포함하는 태그 = 문자별 태그 비트셋의 교집합
+            BitSet tags = null;
+            for (char c : chars) {
+                BitSet tagsWithChar = current.charToTags.get(c);
+                if (tagsWithChar == null) {
+                    tags = null;
+                    break;
+                }
+                if (tags == null) {
+                    tags = (BitSet) tagsWithChar.clone();
+                } else {
+                    tags.and(tagsWithChar);
+                }
+                if (tags.isEmpty()) {
+                    break;
+                }
+            }
+
+            // 검색어 간에는 OR
+            if (tags != null) {
+                matchedTags.or(tags);
+            }
+        }
+
+        if (!hasCondition) {
+            return Optional.empty();
+        }
+
+        Set<Long> tagIds = new LinkedHashSet<>();
+        BitSet trainers = new BitSet(current.trainerIds.length);
+        for (int tag = matchedTags.nextSetBit(0); tag >= 0; tag = matchedTags.nextSetBit(tag + 1)) {
+            tagIds.add(current.tagIds[tag]);
+            trainers.or(current.tagToTrainers[tag]);
+        }
+
+        Set<UUID> trainerIds = new LinkedHashSet<>();
+        for (int trainer = trainers.nextSetBit(0); trainer >= 0; trainer = trainers.nextSetBit(trainer + 1)) {
+            trainerIds.add(current.trainerIds[trainer]);
+        }
+        return Optional.of(new TagMatch(tagIds, trainerIds));
+    }
+
+    /**
+     * 태그 또는 훈련사-태그 관계 변경 시 호출 (다음 조회 시 재구성)
+     */
+    public void invalidate() {
+        snapshot.invalidate();
+    }
+
+    /**
+     * 다른 서버(메인 애플리케이션)에서 발생한 변경을 감지하기 위한 주기적 확인
+     */
+    @Scheduled(fixedDelayString = "${pettalk.index.refresh-interval-ms:60000}")
+    public void refreshIfChanged() {
+        snapshot.refreshIfChanged();
+    }
+
+    private Snapshot build() {
+        long start = System.currentTimeMillis();
+
+        // 1. 태그 ID → 조밀한 인덱스, 문자 → 태그 비트셋
+        List<Tag> tags = tagRepository.findAll();
+        Map<Long, Integer> tagIndexById = new HashMap<>();
+        Map<Character, BitSet> charToTags = new HashMap<>();
+        long[] tagIds = new long[tags.size()];
+        for (Tag tag : tags) {
+            int tagIndex = tagIndexById.size();
+            tagIndexById.put(tag.getTagId(), tagIndex);
+            tagIds[tagIndex] = tag.getTagId();
+            for (char c : extractChars(tag.getTagName())) {
+                charToTags.computeIfAbsent(c, k -> new BitSet()).set(tagIndex);
+            }
+        }
+
+        // 2. 훈련사 ID → 조밀한 인덱스, 태그 → 훈련사 비트셋
+        BitSet[] tagToTrainers = new BitSet[tagIndexById.size()];
+        for (int i = 0; i < tagToTrainers.length; i++) {
+            tagToTrainers[i] = new BitSet();
+        }
+        Map<UUID, Integer> trainerIndexById = new LinkedHashMap<>();
+        for (TrainerTagRepository.TrainerTagIdProjection relation : trainerTagRepository.findAllTrainerTagIds()) {
+            Integer tagIndex = tagIndexById.get(relation.getTagId());
+            if (tagIndex == null) {
+                continue;
+            }
+            int trainerIndex = trainerIndexById.computeIfAbsent(relation.getTrainerId(), k -> trainerIndexById.size());
+            tagToTrainers[tagIndex].set(trainerIndex);
+        }
+
+        UUID[] trainerIds = trainerIndexById.keySet().toArray(new UUID[0]);
+
+        log.info("Tag index built: {} tags, {} trainers, {} chars in {}ms",
+                tagToTrainers.length, trainerIds.length, charToTags.size(), System.currentTimeMillis() - start);
+
+        return new Snapshot(Map.copyOf(charToTags), tagIds, tagToTrainers, trainerIds);
+    }
+
+    // 태그 지문(태그 수, 이름 체크섬) + 관계 수, 관계 ID 합계, 태그 ID 합계
+    private List<Object> loadFingerprint() {
+        List<Object> fingerprint = new ArrayList<>(TagCatalog.loadTagFingerprint(tagRepository));
+        for (Object value : trainerTagRepository.findCountAndIdSums().get(0)) {
+            fingerprint.add(((Number) value).longValue());
+        }
+        return fingerprint;
+    }
+
+    // 공백, 특수문자를 제외한 문자 집합 추출 (대소문자 무시)
+    static Set<Character> extractChars(String value) {
+        if (value == null || value.isBlank()) {
+            return Collections.emptySet();
+        }
+
+        String normalized = Normalizer.normalize(value.trim(), Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        Set<Character> chars = new LinkedHashSet<>();
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isWhitespace(c) || !Character.isLetterOrDigit(c)) {
+                continue;
+            }
+            chars.add(c);
+        }
+        return chars;
+    }
+
+    /**
+     * 태그 일치 결과
+     * @param tagIds 조건을 만족하는 태그 ID
+     * @param trainerIds 해당 태그를 가진 훈련사 ID
+     */
+    public record TagMatch(Set<Long> tagIds, Set<UUID> trainerIds) {}
+
+    private record Snapshot(
+            Map<Character, BitSet> charToTags,
+            long[] tagIds,
+            BitSet[] tagToTrainers,
+            UUID[] trainerIds
+    ) {}
+}
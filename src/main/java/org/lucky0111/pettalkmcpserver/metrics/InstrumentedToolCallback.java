@@ -0,0 +1,75 @@
+package org.lucky0111.pettalkmcpserver.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.ai.tool.metadata.ToolMetadata;
+
+import java.util.function.Supplier;
+
+/**
+ * 도구 호출 시간, 결과 크기, 오류, SQL 문 수를 기록하는 ToolCallback
+ * - SQL 예산이 있으면 정상 완료된 호출의 SQL 문 수 검사
+ * - 예산에 포함되지 않는 SQL 문
+ *   - Hibernate를 거치지 않는 SQL 문 (JdbcTemplate 등, StatementInspector에 보이지 않아 집계 자체가 안 됨)
+ *   - SqlStatementCounter.background()로 실행한 SQL 문 (인메모리 인덱스, 카탈로그 재구성), 전체 SQL 문 수 지표에만 포함
+ */
+class InstrumentedToolCallback implements ToolCallback {
+
+    private final ToolCallback delegate;
+    private final ToolMetrics.Meters meters;
+    private final ToolMetrics toolMetrics;
+    private final Integer sqlBudget;
+
+    InstrumentedToolCallback(ToolCallback delegate, ToolMetrics.Meters meters, ToolMetrics toolMetrics,
+                             Integer sqlBudget) {
+        this.delegate = delegate;
+        this.meters = meters;
+        this.toolMetrics = toolMetrics;
+        this.sqlBudget = sqlBudget;
+    }
+
+    @Override
+    public ToolDefinition getToolDefinition() {
+        return delegate.getToolDefinition();
+    }
+
+    @Override
+    public ToolMetadata getToolMetadata() {
+        return delegate.getToolMetadata();
+    }
+
+    @Override
+    public String call(String toolInput) {
+        return record(() -> delegate.call(toolInput));
+    }
+
+    @Override
+    public String call(String toolInput, ToolContext toolContext) {
+        return record(() -> delegate.call(toolInput, toolContext));
+    }
+
+    private String record(Supplier<String> call) {
+        Timer.Sample sample = Timer.start();
+        try (SqlStatementCounter.Scope sqlStatements = SqlStatementCounter.open()) {
+            String result;
+            try {
+                result = call.get();
+                meters.resultBytes().record(ToolMetrics.byteSize(result));
+                toolMetrics.recordItems(result, meters);
+            } catch (RuntimeException e) {
+                meters.errors().increment();
+                throw e;
+            } finally {
+                sample.stop(meters.duration());
+                meters.sqlStatements().record(sqlStatements.total());
+            }
+
+            if (sqlBudget != null) {
+                toolMetrics.checkSqlBudget(getToolDefinition().name(), sqlBudget, sqlStatements, meters);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package org.lucky0111.pettalkmcpserver.metrics;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * @Tool 메서드 한 번 호출에서 실행할 수 있는 최대 SQL 문 수
+ * - 인메모리 인덱스 재구성 등 SqlStatementCounter.background()로 실행한 SQL은 제외
+ * - 초과 시 pettalk.sql-budget.mode 에 따라 경고 로그(LOG) 또는 예외(FAIL)
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SqlBudget {
+
+    /**
+     * 최대 SQL 문 수
+     */
+    int value();
+}
@@ -0,0 +1,13 @@
+package org.lucky0111.pettalkmcpserver.metrics;
+
+/**
+ * SQL 예산 초과 시 처리 방식 (pettalk.sql-budget.mode)
+ */
+public enum SqlBudgetMode {
+    // 검사하지 않음
+    OFF,
+    // 경고 로그 및 초과 횟수 지표 기록
+    LOG,
+    // LOG + 예외 발생 (테스트용)
+    FAIL
+}
@@ -0,0 +1,170 @@
+package org.lucky0111.pettalkmcpserver.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * 도구 호출 단위 SQL 문 수 집계 (Hibernate StatementInspector)
+ * - open()으로 시작한 범위 안에서 실행된 SQL 문 수를 셈 (중첩된 범위는 바깥 범위에도 함께 집계)
+ * - 다른 스레드에서 실행하는 쿼리(ParallelQueryRunner)는 propagate()로 범위를 전달
+ * - 인메모리 인덱스 재구성처럼 여러 호출에 걸쳐 분산되는 조회는 background()로 실행하여 호출별 SQL 예산에서 제외
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    // 범위별로 보관할 최대 SQL 지문 수
+    private static final int MAX_FINGERPRINTS = 50;
+    private static final int MAX_FINGERPRINT_LENGTH = 200;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> BACKGROUND = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        Scope scope = CURRENT.get();
+        if (scope == null) {
+            return sql;
+        }
+
+        boolean background = Boolean.TRUE.equals(BACKGROUND.get());
+        String fingerprint = background ? null : fingerprint(sql);
+        for (; scope != null; scope = scope.previous) {
+            scope.record(fingerprint, background);
+        }
+        return sql;
+    }
+
+    /**
+     * 현재 스레드에서 새 집계 범위 시작 (close() 시 이전 범위 복원)
+     */
+    public static Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * 호출별 SQL 예산에서 제외할 작업 실행 (인메모리 인덱스, 카탈로그 재구성 등)
+     */
+    public static <T> T background(Supplier<T> task) {
+        Boolean previous = BACKGROUND.get();
+        BACKGROUND.set(Boolean.TRUE);
+        try {
+            return task.get();
+        } finally {
+            restore(BACKGROUND, previous);
+        }
+    }
+
+    /**
+     * 현재 스레드의 집계 범위를 다른 스레드에서 실행할 작업에 전달
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        Scope scope = CURRENT.get();
+        if (scope == null) {
+            return task;
+        }
+        Boolean background = BACKGROUND.get();
+        return () -> {
+            Scope previousScope = CURRENT.get();
+            Boolean previousBackground = BACKGROUND.get();
+            CURRENT.set(scope);
+            restore(BACKGROUND, background);
+            try {
+                return task.get();
+            } finally {
+                restore(CURRENT, previousScope);
+                restore(BACKGROUND, previousBackground);
+            }
+        };
+    }
+
+    // 바인딩 값, IN 목록 길이, 공백 차이를 없앤 SQL (같은 쿼리 반복 실행 확인용)
+    static String fingerprint(String sql) {
+        String normalized = WHITESPACE.matcher(sql).replaceAll(" ").trim();
+        normalized = STRING_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = PARAMETER_LIST.matcher(normalized).replaceAll("(?)");
+        return normalized.length() > MAX_FINGERPRINT_LENGTH
+                ? normalized.substring(0, MAX_FINGERPRINT_LENGTH) + "..."
+                : normalized;
+    }
+
+    private static <T> void restore(ThreadLocal<T> threadLocal, T previous) {
+        if (previous == null) {
+            threadLocal.remove();
+        } else {
+            threadLocal.set(previous);
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope previous;
+        private final AtomicInteger statements = new AtomicInteger();
+        private final AtomicInteger backgroundStatements = new AtomicInteger();
+        private final Map<String, AtomicInteger> fingerprints = new ConcurrentHashMap<>();
+
+        private Scope(Scope previous) {
+            this.previous = previous;
+        }
+
+        private void record(String fingerprint, boolean background) {
+            if (background) {
+                backgroundStatements.incrementAndGet();
+                return;
+            }
+
+            statements.incrementAndGet();
+            AtomicInteger count = fingerprints.get(fingerprint);
+            if (count == null && fingerprints.size() < MAX_FINGERPRINTS) {
+                count = fingerprints.computeIfAbsent(fingerprint, k -> new AtomicInteger());
+            }
+            if (count != null) {
+                count.incrementAndGet();
+            }
+        }
+
+        /**
+         * 호출별 SQL 예산 대상 SQL 문 수 (background() 제외)
+         */
+        public int count() {
+            return statements.get();
+        }
+
+        /**
+         * background()로 실행한 SQL 문 포함 전체 SQL 문 수
+         */
+        public int total() {
+            return statements.get() + backgroundStatements.get();
+        }
+
+        /**
+         * 실행 횟수가 많은 SQL 지문 (예: "3x select ... from trainers ...")
+         */
+        public List<String> topFingerprints(int limit) {
+            return fingerprints.entrySet().stream()
+                    .sorted(Comparator.comparingInt((Map.Entry<String, AtomicInteger> entry) -> entry.getValue().get())
+                            .reversed())
+                    .limit(limit)
+                    .map(entry -> entry.getValue().get() + "x " + entry.getKey())
+                    .toList();
+        }
+
+        @Override
+        public void close() {
+            restore(CURRENT, previous);
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package org.lucky0111.pettalkmcpserver.metrics;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+import org.lucky0111.pettalkmcpserver.domain.common.ErrorCode;
+import org.lucky0111.pettalkmcpserver.domain.dto.common.ToolMetricsDTO;
+import org.lucky0111.pettalkmcpserver.exception.CustomException;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 도구 호출별 지표 (Micrometer, /actuator/metrics 및 /actuator/prometheus)
+ * - pettalk.mcp.tool.duration: 호출 시간 히스토그램
+ * - pettalk.mcp.tool.errors: 오류 수
+ * - pettalk.mcp.tool.result.bytes / pettalk.mcp.tool.result.items: 결과 크기 (UTF-8 바이트 수, 항목 수)
+ *   (항목 수는 pettalk.mcp.metrics.count-result-items=false 이면 기록하지 않음)
+ * - pettalk.mcp.tool.sql.statements: 호출당 실행한 SQL 문 수 (인메모리 인덱스 재구성 포함)
+ * - pettalk.mcp.tool.sql.budget.exceeded: @SqlBudget 초과 횟수 (인메모리 인덱스 재구성 제외)
+ */
+@Slf4j
+@Component
+public class ToolMetrics {
+
+    static final String DURATION = "pettalk.mcp.tool.duration";
+    static final String ERRORS = "pettalk.mcp.tool.errors";
+    static final String RESULT_BYTES = "pettalk.mcp.tool.result.bytes";
+    static final String RESULT_ITEMS = "pettalk.mcp.tool.result.items";
+    static final String SQL_STATEMENTS = "pettalk.mcp.tool.sql.statements";
+    static final String SQL_BUDGET_EXCEEDED = "pettalk.mcp.tool.sql.budget.exceeded";
+
+    private static final String TOOL_TAG = "tool";
+    // 예산 초과 로그에 남길 SQL 지문 수
+    private static final int LOGGED_FINGERPRINTS = 5;
+
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+    private final SqlBudgetMode sqlBudgetMode;
+    private final boolean countResultItems;
+
+    // 도구 이름 → 지표 (등록 순서 유지)
+    private final Map<String, Meters> metersByTool = Collections.synchronizedMap(new LinkedHashMap<>());
+    // 도구 이름 → SQL 예산 (@SqlBudget 선언한 도구만)
+    private final Map<String, Integer> sqlBudgets = new ConcurrentHashMap<>();
+
+    public ToolMetrics(MeterRegistry meterRegistry,
+                       ObjectMapper objectMapper,
+                       @Value("${pettalk.sql-budget.mode:LOG}") SqlBudgetMode sqlBudgetMode,
+                       @Value("${pettalk.mcp.metrics.count-result-items:true}") boolean countResultItems) {
+        this.meterRegistry = meterRegistry;
+        this.objectMapper = objectMapper;
+        this.sqlBudgetMode = sqlBudgetMode;
+        this.countResultItems = countResultItems;
+    }
+
+    /**
+     * 도구 호출 시 지표를 기록하도록 감쌈
+     */
+    public ToolCallback instrument(ToolCallback toolCallback) {
+        return instrument(toolCallback, null);
+    }
+
+    /**
+     * 도구 호출 시 지표를 기록하고 SQL 예산을 검사하도록 감쌈
+     * @param sqlBudget 호출당 최대 SQL 문 수 (null 이면 검사하지 않음)
+     */
+    public ToolCallback instrument(ToolCallback toolCallback, Integer sqlBudget) {
+        String toolName = toolCallback.getToolDefinition().name();
+        Meters meters = metersByTool.computeIfAbsent(toolName, this::register);
+        if (sqlBudget == null || sqlBudgetMode == SqlBudgetMode.OFF) {
+            sqlBudgets.remove(toolName);
+            return new InstrumentedToolCallback(toolCallback, meters, this, null);
+        }
+        sqlBudgets.put(toolName, sqlBudget);
+        return new InstrumentedToolCallback(toolCallback, meters, this, sqlBudget);
+    }
+
+    /**
+     * 도구의 SQL 예산 (선언하지 않았거나 검사하지 않으면 null)
+     */
+    public Integer sqlBudget(String toolName) {
+        return sqlBudgets.get(toolName);
+    }
+
+    /**
+     * 도구별 누적 지표 조회
+     * @param toolName 도구 이름 (null 이면 전체)
+     */
+    public List<ToolMetricsDTO> snapshot(String toolName) {
+        List<Map.Entry<String, Meters>> entries;
+        synchronized (metersByTool) {
+            entries = new ArrayList<>(metersByTool.entrySet());
+        }
+
+        return entries.stream()
+                .filter(entry -> toolName == null || toolName.isBlank() || entry.getKey().equals(toolName.trim()))
+                .map(entry -> toDTO(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    // 결과 항목 수 기록 (비활성화 시 생략)
+    void recordItems(String result, Meters meters) {
+        if (countResultItems) {
+            meters.resultItems().record(countItems(result));
+        }
+    }
+
+    // 결과 항목 수: 배열이면 크기, 객체면 첫 번째 배열 필드의 크기, 그 외 값은 1
+    // 트리를 만들지 않고 토큰만 읽으며, 첫 번째 배열을 센 뒤 나머지는 읽지 않음
+    int countItems(String result) {
+        if (result == null || result.isBlank()) {
+            return 0;
+        }
+        try (JsonParser parser = objectMapper.getFactory().createParser(result)) {
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.VALUE_NULL) {
+                return 0;
+            }
+            if (token == JsonToken.START_ARRAY) {
+                return countElements(parser);
+            }
+            if (token == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    if (parser.nextToken() == JsonToken.START_ARRAY) {
+                        return countElements(parser);
+                    }
+                    parser.skipChildren();
+                }
+            }
+            return 1;
+        } catch (Exception e) {
+            return 1;
+        }
+    }
+
+    // START_ARRAY 다음부터 최상위 요소 수 (하위 객체, 배열은 건너뜀)
+    private static int countElements(JsonParser parser) throws IOException {
+        int count = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            parser.skipChildren();
+            count++;
+        }
+        return count;
+    }
+
+    // 정상 완료된 호출의 SQL 문 수가 예산을 넘으면 경고 로그 (FAIL 모드에서는 예외)
+    void checkSqlBudget(String toolName, int sqlBudget, SqlStatementCounter.Scope sqlStatements, Meters meters) {
+        int statements = sqlStatements.count();
+        if (statements <= sqlBudget) {
+            return;
+        }
+
+        meters.sqlBudgetExceeded().increment();
+        log.warn("Tool {} executed {} SQL statements (budget {}): {}",
+                toolName, statements, sqlBudget, sqlStatements.topFingerprints(LOGGED_FINGERPRINTS));
+        if (sqlBudgetMode == SqlBudgetMode.FAIL) {
+            throw new CustomException(
+                    ErrorCode.SQL_BUDGET_EXCEEDED.getMessage() + " (" + toolName + ": " + statements + " > " + sqlBudget + ")",
+                    ErrorCode.SQL_BUDGET_EXCEEDED.getHttpStatus());
+        }
+    }
+
+    static int byteSize(String result) {
+        return result == null ? 0 : result.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private Meters register(String toolName) {
+        return new Meters(
+                Timer.builder(DURATION)
+                        .description("MCP tool call latency")
+                        .tag(TOOL_TAG, toolName)
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry),
+                Counter.builder(ERRORS)
+                        .description("MCP tool call errors")
+                        .tag(TOOL_TAG, toolName)
+                        .register(meterRegistry),
+                DistributionSummary.builder(RESULT_BYTES)
+                        .description("MCP tool result size")
+                        .baseUnit("bytes")
+                        .tag(TOOL_TAG, toolName)
+                        .register(meterRegistry),
+                DistributionSummary.builder(RESULT_ITEMS)
+                        .description("MCP tool result item count")
+                        .tag(TOOL_TAG, toolName)
+                        .register(meterRegistry),
+                DistributionSummary.builder(SQL_STATEMENTS)
+                        .description("SQL statements executed per MCP tool call")
+                        .tag(TOOL_TAG, toolName)
+                        .register(meterRegistry),
+                Counter.builder(SQL_BUDGET_EXCEEDED)
+                        .description("MCP tool calls exceeding their SQL statement budget")
+                        .tag(TOOL_TAG, toolName)
+                        .register(meterRegistry)
+        );
+    }
+
+    private ToolMetricsDTO toDTO(String toolName, Meters meters) {
+        Map<Double, Double> percentiles = new HashMap<>();
+        for (ValueAtPercentile value : meters.duration().takeSnapshot().percentileValues()) {
+            percentiles.put(value.percentile(), value.value(TimeUnit.MILLISECONDS));
+        }
+
+        return new ToolMetricsDTO(
+                toolName,
+                meters.duration().count(),
+                (long) meters.errors().count(),
+                meters.duration().mean(TimeUnit.MILLISECONDS),
+                percentiles.getOrDefault(0.5, 0.0),
+                percentiles.getOrDefault(0.95, 0.0),
+                percentiles.getOrDefault(0.99, 0.0),
+                meters.duration().max(TimeUnit.MILLISECONDS),
+                meters.resultBytes().mean(),
+                meters.resultItems().mean(),
+                meters.sqlStatements().mean(),
+                meters.sqlStatements().max(),
+                sqlBudgets.get(toolName),
+                (long) meters.sqlBudgetExceeded().count()
+        );
+    }
+
+    record Meters(
+            Timer duration,
+            Counter errors,
+            DistributionSummary resultBytes,
+            DistributionSummary resultItems,
+            DistributionSummary sqlStatements,
+            Counter sqlBudgetExceeded
+    ) {}
+}
@@ -3,8 +3,14 @@ package org.lucky0111.pettalkmcpserver.repository.common;
 
 import org.lucky0111.pettalkmcpserver.domain.entity.common.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface TagRepository extends JpaRepository<Tag, Long> {
+    // 변경 감지를 위한 (태그 ID, 태그 이름) 전체 조회 (이름 변경 감지용 체크섬 계산)
+    @Query("SELECT t.tagId, t.tagName FROM Tag t ORDER BY t.tagId")
+    List<Object[]> findAllIdsAndNames();
 }
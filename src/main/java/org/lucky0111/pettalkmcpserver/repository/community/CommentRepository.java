@@ -5,9 +5,12 @@ import org.lucky0111.pettalkmcpserver.domain.entity.community.Post;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
@@ -51,4 +54,101 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
             @Param("previewIds") List<Long> previewIds,
             @Param("cursor") Long cursor,
             Pageable pageable);
+
+    // 게시글의 최상위 댓글 키셋 페이지 조회 (post_id, parent_comment_id, comment_id 인덱스)
+    @Query("SELECT c.commentId as commentId, c.post.postId as postId, " +
+            "u.name as userName, u.nickname as userNickname, u.profileImageUrl as profileImageUrl, " +
+            "c.parentComment.commentId as parentCommentId, c.content as content, " +
+            "c.createdAt as createdAt, c.updatedAt as updatedAt " +
+            "FROM Comment c LEFT JOIN c.user u " +
+            "WHERE c.post.postId = :postId AND c.parentComment IS NULL AND c.commentId > :cursor " +
+            "ORDER BY c.commentId ASC")
+    List<CommentRowProjection> findRootCommentsAfter(
+            @Param("postId") Long postId,
+            @Param("cursor") Long cursor,
+            Pageable pageable);
+
+    // 최상위 댓글 목록의 답글 미리보기(댓글별 앞쪽 previewSize개)와 최상위 댓글별 전체 답글 수를 한 번에 조회 (comment_closure)
+    @Query(value = "SELECT t.rootCommentId, t.commentId, t.postId, t.userName, t.userNickname, t.profileImageUrl, " +
+            "t.parentCommentId, t.content, t.createdAt, t.updatedAt, t.rootReplyCount, " +
+            "(SELECT COUNT(*) FROM comment_closure d WHERE d.ancestor_id = t.commentId AND d.depth > 0) AS replyCount " +
+            "FROM (" +
+            "SELECT cc.ancestor_id AS rootCommentId, c.comment_id AS commentId, c.post_id AS postId, " +
+            "u.name AS userName, u.nickname AS userNickname, u.profile_image_url AS profileImageUrl, " +
+            "c.parent_comment_id AS parentCommentId, c.content AS content, " +
+            "c.created_at AS createdAt, c.updated_at AS updatedAt, " +
+            "ROW_NUMBER() OVER (PARTITION BY cc.ancestor_id ORDER BY cc.descendant_id) AS rowNumber, " +
+            "COUNT(*) OVER (PARTITION BY cc.ancestor_id) AS rootReplyCount " +
+            "FROM comment_closure cc " +
+            "JOIN comments c ON c.comment_id = cc.descendant_id " +
+            "LEFT JOIN pet_users u ON u.user_id = c.user_id " +
+            "WHERE cc.ancestor_id IN (:rootCommentIds) AND cc.depth > 0" +
+            ") t " +
+            "WHERE t.rowNumber <= :previewSize " +
+            "ORDER BY t.rootCommentId, t.commentId",
+            nativeQuery = true)
+    List<ReplyPreviewProjection> findReplyPreviews(
+            @Param("rootCommentIds") Collection<Long> rootCommentIds,
+            @Param("previewSize") int previewSize);
+
+    // 댓글의 모든 하위 답글을 작성 순으로 키셋 페이지 조회 (comment_closure 기본 키)
+    @Query(value = "SELECT c.comment_id AS commentId, c.post_id AS postId, " +
+            "u.name AS userName, u.nickname AS userNickname, u.profile_image_url AS profileImageUrl, " +
+            "c.parent_comment_id AS parentCommentId, c.content AS content, " +
+            "c.created_at AS createdAt, c.updated_at AS updatedAt, " +
+            "(SELECT COUNT(*) FROM comment_closure d WHERE d.ancestor_id = c.comment_id AND d.depth > 0) AS replyCount " +
+            "FROM comment_closure cc " +
+            "JOIN comments c ON c.comment_id = cc.descendant_id " +
+            "LEFT JOIN pet_users u ON u.user_id = c.user_id " +
+            "WHERE cc.ancestor_id = :commentId AND cc.depth > 0 AND cc.descendant_id > :cursor " +
+            "ORDER BY cc.descendant_id " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<ReplyRowProjection> findDescendantsAfter(
+            @Param("commentId") Long commentId,
+            @Param("cursor") Long cursor,
+            @Param("limit") int limit);
+
+    // 동기화: afterCommentId 이후 댓글 중 자기 자신 클로저 행이 없는 댓글 추가
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO comment_closure (ancestor_id, descendant_id, depth) " +
+            "SELECT c.comment_id, c.comment_id, 0 FROM comments c " +
+            "WHERE c.comment_id > :afterCommentId " +
+            "AND NOT EXISTS (SELECT 1 FROM comment_closure x WHERE x.ancestor_id = c.comment_id AND x.descendant_id = c.comment_id)",
+            nativeQuery = true)
+    int insertMissingSelfLinks(@Param("afterCommentId") Long afterCommentId);
+
+    // 동기화: afterCommentId 이후 댓글 중 부모의 조상 클로저 행이 빠진 댓글 추가 (트리 깊이만큼 반복 호출)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO comment_closure (ancestor_id, descendant_id, depth) " +
+            "SELECT cc.ancestor_id, c.comment_id, cc.depth + 1 FROM comments c " +
+            "JOIN comment_closure cc ON cc.descendant_id = c.parent_comment_id " +
+            "WHERE c.comment_id > :afterCommentId " +
+            "AND NOT EXISTS (SELECT 1 FROM comment_closure x WHERE x.ancestor_id = cc.ancestor_id AND x.descendant_id = c.comment_id)",
+            nativeQuery = true)
+    int insertMissingAncestorLinks(@Param("afterCommentId") Long afterCommentId);
+
+    @Query("SELECT COALESCE(MAX(c.commentId), 0) FROM Comment c")
+    Long findMaxCommentId();
+
+    interface CommentRowProjection {
+        Long getCommentId();
+        Long getPostId();
+        String getUserName();
+        String getUserNickname();
+        String getProfileImageUrl();
+        Long getParentCommentId();
+        String getContent();
+        LocalDateTime getCreatedAt();
+        LocalDateTime getUpdatedAt();
+    }
+
+    interface ReplyRowProjection extends CommentRowProjection {
+        Long getReplyCount();
+    }
+
+    interface ReplyPreviewProjection extends ReplyRowProjection {
+        Long getRootCommentId();
+        Long getRootReplyCount();
+    }
 }
\ No newline at end of file
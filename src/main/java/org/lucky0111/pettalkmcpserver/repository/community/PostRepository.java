@@ -12,9 +12,12 @@ import org.lucky0111.pettalkmcpserver.domain.entity.community.Post;
 import org.lucky0111.pettalkmcpserver.domain.entity.user.PetUser;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -28,6 +31,44 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     // 사용자별 조회
     List<Post> findByUser_UserId(UUID userId);
 
-    @Query("SELECT p FROM Post p JOIN PostTagRelation ptr ON p.postId = ptr.post.postId WHERE ptr.tag.tagName IN :tags")
-    List<Post> findByTags(List<String> tags);
+    // 게시글 ID 목록으로 요약 정보(제목, 내용) 조회
+    @Query("SELECT p.postId as postId, p.title as title, p.content as content, " +
+            "p.likeCount as likeCount, p.commentCount as commentCount " +
+            "FROM Post p " +
+            "WHERE p.postId IN :postIds")
+    List<PostSummaryProjection> findSummariesByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    // 게시글 ID 목록으로 좋아요 수, 댓글 수만 조회 (태그 검색 동점 정렬용)
+    @Query("SELECT p.postId as postId, p.likeCount as likeCount, p.commentCount as commentCount " +
+            "FROM Post p " +
+            "WHERE p.postId IN :postIds")
+    List<PostCounterProjection> findCountersByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    // 제목/내용 키워드 검색 (ngram FULLTEXT 인덱스, 관련도 → 최신순)
+    @Query(value = "SELECT p.post_id AS postId, p.title AS title, p.content AS content, " +
+            "p.like_count AS likeCount, p.comment_count AS commentCount, " +
+            "MATCH(p.title, p.content) AGAINST (:keyword IN NATURAL LANGUAGE MODE) AS score " +
+            "FROM posts p " +
+            "WHERE MATCH(p.title, p.content) AGAINST (:keyword IN NATURAL LANGUAGE MODE) " +
+            "ORDER BY score DESC, p.post_id DESC",
+            nativeQuery = true)
+    Slice<PostSearchProjection> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
+
+    interface PostSearchProjection extends PostSummaryProjection {
+        Double getScore();
+    }
+
+    interface PostCounterProjection {
+        Long getPostId();
+        Integer getLikeCount();
+        Integer getCommentCount();
+    }
+
+    interface PostSummaryProjection {
+        Long getPostId();
+        String getTitle();
+        String getContent();
+        Integer getLikeCount();
+        Integer getCommentCount();
+    }
 }
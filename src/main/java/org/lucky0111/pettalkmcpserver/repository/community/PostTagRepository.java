@@ -24,10 +24,18 @@ public interface PostTagRepository extends JpaRepository<PostTagRelation, Long>
             "WHERE pt.post.postId IN :postIds")
     List<PostTagProjection> findTagNamesByPostIds(@Param("postIds") List<Long> postIds);
 
-    @Query("SELECT pt.post.postId " +
-            "FROM PostTagRelation pt " +
-            "WHERE pt.tag.tagName IN :tags")
-    List<Long> findPostIdsByTagNames(List<String> tags);
+    // 태그-게시물 비트맵 인덱스 구성을 위한 (태그 ID, 게시물 ID) 전체 조회
+    @Query("SELECT pt.tag.tagId as tagId, pt.post.postId as postId FROM PostTagRelation pt")
+    List<PostTagIdProjection> findAllPostTagIds();
+
+    // 변경 감지를 위한 게시물-태그 관계 수, ID 합계 조회 (추가/삭제 시 증분 계산 가능)
+    @Query("SELECT COUNT(pt), COALESCE(SUM(pt.id), 0) FROM PostTagRelation pt")
+    List<Object[]> findCountAndIdSum();
+
+    interface PostTagIdProjection {
+        Long getTagId();
+        Long getPostId();
+    }
 
     // 게시물 태그를 위한 프로젝션 인터페이스
     interface PostTagProjection {
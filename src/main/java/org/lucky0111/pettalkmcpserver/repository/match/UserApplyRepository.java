@@ -8,11 +8,11 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 public interface UserApplyRepository extends JpaRepository<UserApply, Long> {
     boolean existsByPetUser_userIdAndTrainer_trainerIdAndApplyStatus(UUID petUserId, UUID trainerId, ApplyStatus applyStatus);
@@ -124,15 +124,57 @@ public interface UserApplyRepository extends JpaRepository<UserApply, Long> {
             Pageable pageable);
 
     /**
-     * 신청서 ID 목록을 기반으로 리뷰 존재 여부 확인
+     * 트레이너에게 온 신청서를 (createdAt, applyId) 키셋 기준 최신순으로 관련 엔티티와 함께 조회 (COUNT 쿼리 없음)
+     * @param trainerId 트레이너 ID
+     * @param createdAt 이전 페이지 마지막 신청서의 생성 시각
+     * @param applyId 이전 페이지 마지막 신청서 ID
+     * @param pageable 조회 개수 (정렬은 쿼리에 고정)
+     * @return 신청서 목록
+     */
+    @Query("SELECT ua FROM UserApply ua " +
+            "JOIN FETCH ua.petUser " +
+            "JOIN FETCH ua.trainer t " +
+            "JOIN FETCH t.user " +
+            "WHERE t.trainerId = :trainerId " +
+            "AND (ua.createdAt < :createdAt OR (ua.createdAt = :createdAt AND ua.applyId < :applyId)) " +
+            "ORDER BY ua.createdAt DESC, ua.applyId DESC")
+    List<UserApply> findByTrainer_TrainerIdWithRelationsBefore(
+            @Param("trainerId") UUID trainerId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("applyId") Long applyId,
+            Pageable pageable);
+
+    /**
+     * 트레이너에게 온 상태별 신청서를 (createdAt, applyId) 키셋 기준 최신순으로 관련 엔티티와 함께 조회 (COUNT 쿼리 없음)
+     * @param trainerId 트레이너 ID
+     * @param applyStatus 신청 상태
+     * @param createdAt 이전 페이지 마지막 신청서의 생성 시각
+     * @param applyId 이전 페이지 마지막 신청서 ID
+     * @param pageable 조회 개수 (정렬은 쿼리에 고정)
+     * @return 신청서 목록
+     */
+    @Query("SELECT ua FROM UserApply ua " +
+            "JOIN FETCH ua.petUser " +
+            "JOIN FETCH ua.trainer t " +
+            "JOIN FETCH t.user " +
+            "WHERE t.trainerId = :trainerId " +
+            "AND ua.applyStatus = :status " +
+            "AND (ua.createdAt < :createdAt OR (ua.createdAt = :createdAt AND ua.applyId < :applyId)) " +
+            "ORDER BY ua.createdAt DESC, ua.applyId DESC")
+    List<UserApply> findByTrainer_TrainerIdAndStatusWithRelationsBefore(
+            @Param("trainerId") UUID trainerId,
+            @Param("status") ApplyStatus applyStatus,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("applyId") Long applyId,
+            Pageable pageable);
+
+    /**
+     * 신청서 ID 목록 중 리뷰가 작성된 신청서 ID 조회 (reviews.apply_id 인덱스 세미 조인)
      * @param applyIds 신청서 ID 목록
-     * @return 리뷰 존재 여부 (Key: 신청서 ID, Value: 리뷰 존재 여부)
+     * @return 리뷰가 존재하는 신청서 ID 목록
      */
-    @Query("SELECT ua.applyId, " +
-            "(SELECT COUNT(r) FROM Review r WHERE r.userApply.applyId = ua.applyId) > 0 " +
-            "FROM UserApply ua " +
-            "WHERE ua.applyId IN :applyIds")
-    List<Object[]> checkReviewExistenceByApplyIds(@Param("applyIds") List<Long> applyIds);
+    @Query("SELECT DISTINCT r.userApply.applyId FROM Review r WHERE r.userApply.applyId IN :applyIds")
+    List<Long> findReviewedApplyIds(@Param("applyIds") Collection<Long> applyIds);
 
     /**
      * 사용자 ID와 상태로 해당 사용자의 상태별 신청서를 페이징 처리하여 관련 엔티티와 함께 조회
@@ -173,19 +215,4 @@ public interface UserApplyRepository extends JpaRepository<UserApply, Long> {
             @Param("trainerId") UUID trainerId,
             @Param("status") ApplyStatus applyStatus,
             Pageable pageable);
-
-    /**
-     * 신청서 ID 목록을 기반으로 리뷰 존재 여부를 맵으로 변환
-     * @param applyIds 신청서 ID 목록
-     * @return 맵(키: 신청서 ID, 값: 리뷰 존재 여부)
-     */
-    default Map<Long, Boolean> hasReviewByApplyIds(List<Long> applyIds) {
-        return checkReviewExistenceByApplyIds(applyIds).stream()
-                .collect(Collectors.toMap(
-                        arr -> (Long) arr[0],
-                        arr -> (Boolean) arr[1]
-                ));
-    }
-
-
 }
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -58,4 +59,11 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     @Query("SELECT COUNT(r) FROM Review r JOIN r.userApply ua JOIN ua.trainer t WHERE t.trainerId = :trainerId")
     Long countByReviewedTrainerId(@Param("trainerId") UUID trainerId);
 
+    // 리뷰 통계 변경 감지를 위한 리뷰 수, 최종 수정 시각 조회
+    @Query("SELECT COUNT(r), MAX(r.updatedAt) FROM Review r")
+    List<Object[]> findCountAndLastModified();
+
+    // 지정 시각 이후 리뷰가 수정(등록 포함)된 훈련사 ID 조회
+    @Query("SELECT DISTINCT ua.trainer.trainerId FROM Review r JOIN r.userApply ua WHERE r.updatedAt >= :since")
+    List<UUID> findTrainerIdsWithReviewsModifiedSince(@Param("since") LocalDateTime since);
 }
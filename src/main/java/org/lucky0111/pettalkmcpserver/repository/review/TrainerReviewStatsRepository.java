@@ -0,0 +1,58 @@
+package org.lucky0111.pettalkmcpserver.repository.review;
+
+import org.lucky0111.pettalkmcpserver.domain.entity.review.TrainerReviewStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.UUID;
+
+public interface TrainerReviewStatsRepository extends JpaRepository<TrainerReviewStats, UUID> {
+
+    // 통계 재계산 쿼리 공통 부분 (컬럼 목록, reviews 집계식, 기존 행 덮어쓰기)
+    String STATS_COLUMNS = "(trainer_id, review_count, rating_sum, rating_1, rating_2, rating_3, rating_4, rating_5) ";
+
+    String STATS_SELECT = "SELECT ua.trainer_id, COUNT(*), SUM(r.rating), " +
+            "SUM(r.rating = 1), SUM(r.rating = 2), SUM(r.rating = 3), SUM(r.rating = 4), SUM(r.rating = 5) " +
+            "FROM reviews r JOIN user_applies ua ON ua.apply_id = r.apply_id ";
+
+    String STATS_UPSERT = "ON DUPLICATE KEY UPDATE " +
+            "review_count = VALUES(review_count), rating_sum = VALUES(rating_sum), " +
+            "rating_1 = VALUES(rating_1), rating_2 = VALUES(rating_2), rating_3 = VALUES(rating_3), " +
+            "rating_4 = VALUES(rating_4), rating_5 = VALUES(rating_5)";
+
+    // 지정한 훈련사의 통계만 reviews 기준으로 다시 계산 (행이 없으면 생성)
+    @Modifying
+    @Query(value = "INSERT INTO trainer_review_stats " + STATS_COLUMNS +
+            STATS_SELECT + "WHERE ua.trainer_id IN :trainerIds GROUP BY ua.trainer_id " +
+            STATS_UPSERT,
+            nativeQuery = true)
+    int upsertStatsFromReviews(@Param("trainerIds") Collection<UUID> trainerIds);
+
+    // 지정한 훈련사 중 리뷰가 남아 있지 않은 훈련사의 통계 삭제
+    @Modifying
+    @Query(value = "DELETE FROM trainer_review_stats " +
+            "WHERE trainer_id IN :trainerIds AND trainer_id NOT IN (" +
+            "SELECT ua.trainer_id FROM reviews r JOIN user_applies ua ON ua.apply_id = r.apply_id " +
+            "WHERE ua.trainer_id IN :trainerIds)",
+            nativeQuery = true)
+    int deleteStatsWithoutReviews(@Param("trainerIds") Collection<UUID> trainerIds);
+
+    // 전체 훈련사의 통계를 reviews 기준으로 다시 계산 (기존 행은 덮어써서 조회 중 빈 구간 없음)
+    @Modifying
+    @Query(value = "INSERT INTO trainer_review_stats " + STATS_COLUMNS +
+            STATS_SELECT + "GROUP BY ua.trainer_id " +
+            STATS_UPSERT,
+            nativeQuery = true)
+    int upsertAllStatsFromReviews();
+
+    // 리뷰가 남아 있지 않은 훈련사의 통계 삭제
+    @Modifying
+    @Query(value = "DELETE FROM trainer_review_stats " +
+            "WHERE trainer_id NOT IN (" +
+            "SELECT ua.trainer_id FROM reviews r JOIN user_applies ua ON ua.apply_id = r.apply_id)",
+            nativeQuery = true)
+    int deleteAllStatsWithoutReviews();
+}
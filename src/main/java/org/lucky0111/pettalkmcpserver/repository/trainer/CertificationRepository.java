@@ -3,6 +3,7 @@ package org.lucky0111.pettalkmcpserver.repository.trainer;
 import org.lucky0111.pettalkmcpserver.domain.entity.trainer.Certification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Collection;
 import java.util.List;
@@ -16,5 +17,10 @@ public interface CertificationRepository extends JpaRepository<Certification, Lo
             "JOIN FETCH t.user")
     List<Certification> findAllWithTrainerAndUser();
 
-    List<Certification> findAllByTrainer_TrainerIdIn(Collection<UUID> trainerIds);
+    // 훈련사(EAGER)를 함께 조회하여 훈련사별 추가 SELECT 방지
+    @Query("SELECT c FROM Certification c " +
+            "JOIN FETCH c.trainer t " +
+            "JOIN FETCH t.user " +
+            "WHERE t.trainerId IN :trainerIds")
+    List<Certification> findAllByTrainer_TrainerIdIn(@Param("trainerIds") Collection<UUID> trainerIds);
 }
@@ -0,0 +1,43 @@
+package org.lucky0111.pettalkmcpserver.repository.trainer;
+
+import org.lucky0111.pettalkmcpserver.domain.entity.trainer.TrainerArea;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface TrainerAreaRepository extends JpaRepository<TrainerArea, Long> {
+    // 동기화를 위한 (훈련사 ID, 지역 코드) 전체 조회
+    @Query("SELECT ta.trainer.trainerId as trainerId, ta.areaCode as areaCode FROM TrainerArea ta")
+    List<TrainerAreaCodeProjection> findAllTrainerAreaCodes();
+
+    // 변경된 훈련사의 (훈련사 ID, 지역 코드) 조회
+    @Query("SELECT ta.trainer.trainerId as trainerId, ta.areaCode as areaCode FROM TrainerArea ta " +
+            "WHERE ta.trainer.trainerId IN :trainerIds")
+    List<TrainerAreaCodeProjection> findTrainerAreaCodesByTrainerIdIn(@Param("trainerIds") Collection<UUID> trainerIds);
+
+    // 지역 목록 구성을 위한 지역 코드별 훈련사 수 조회
+    @Query("SELECT ta.areaCode as areaCode, COUNT(DISTINCT ta.trainer.trainerId) as trainerCount " +
+            "FROM TrainerArea ta " +
+            "GROUP BY ta.areaCode " +
+            "ORDER BY COUNT(DISTINCT ta.trainer.trainerId) DESC, ta.areaCode")
+    List<AreaCountProjection> findAreaCounts();
+
+    @Modifying
+    @Query("DELETE FROM TrainerArea ta WHERE ta.trainer.trainerId = :trainerId AND ta.areaCode IN :areaCodes")
+    void deleteByTrainerIdAndAreaCodeIn(@Param("trainerId") UUID trainerId, @Param("areaCodes") Collection<String> areaCodes);
+
+    interface TrainerAreaCodeProjection {
+        UUID getTrainerId();
+        String getAreaCode();
+    }
+
+    interface AreaCountProjection {
+        String getAreaCode();
+        long getTrainerCount();
+    }
+}
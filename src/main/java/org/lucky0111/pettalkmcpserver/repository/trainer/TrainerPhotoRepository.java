@@ -3,5 +3,10 @@ package org.lucky0111.pettalkmcpserver.repository.trainer;
 import org.lucky0111.pettalkmcpserver.domain.entity.trainer.TrainerPhoto;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
 public interface TrainerPhotoRepository extends JpaRepository<TrainerPhoto, Long> {
+    List<TrainerPhoto> findAllByTrainer_TrainerIdIn(Collection<UUID> trainerIds);
 }
@@ -2,6 +2,8 @@ package org.lucky0111.pettalkmcpserver.repository.trainer;
 
 import org.lucky0111.pettalkmcpserver.domain.entity.trainer.TrainerTagRelation;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Collection;
 import java.util.List;
@@ -10,5 +12,24 @@ import java.util.UUID;
 public interface TrainerTagRepository extends JpaRepository<TrainerTagRelation, Long> {
     List<TrainerTagRelation> findByTrainer_TrainerId(UUID trainerId);
 
-    List<TrainerTagRelation> findAllByTrainer_TrainerIdIn(Collection<UUID> trainerIds);
+    // 태그, 훈련사(EAGER)를 함께 조회하여 태그별/훈련사별 추가 SELECT 방지
+    @Query("SELECT tt FROM TrainerTagRelation tt " +
+            "JOIN FETCH tt.tag " +
+            "JOIN FETCH tt.trainer t " +
+            "JOIN FETCH t.user " +
+            "WHERE t.trainerId IN :trainerIds")
+    List<TrainerTagRelation> findAllByTrainer_TrainerIdIn(@Param("trainerIds") Collection<UUID> trainerIds);
+
+    // 인메모리 태그 인덱스 구성을 위한 (훈련사 ID, 태그 ID) 전체 조회
+    @Query("SELECT tt.trainer.trainerId as trainerId, tt.tag.tagId as tagId FROM TrainerTagRelation tt")
+    List<TrainerTagIdProjection> findAllTrainerTagIds();
+
+    // 변경 감지를 위한 관계 수, 관계 ID 합계, 태그 ID 합계 조회 (추가/삭제, 관계의 태그 변경 감지)
+    @Query("SELECT COUNT(tt), COALESCE(SUM(tt.id), 0), COALESCE(SUM(tt.tag.tagId), 0) FROM TrainerTagRelation tt")
+    List<Object[]> findCountAndIdSums();
+
+    interface TrainerTagIdProjection {
+        UUID getTrainerId();
+        Long getTagId();
+    }
 }
@@ -4,6 +4,8 @@ package org.lucky0111.pettalkmcpserver.repository.user;
 import org.lucky0111.pettalkmcpserver.domain.common.UserRole;
 import org.lucky0111.pettalkmcpserver.domain.entity.user.PetUser;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -24,4 +26,18 @@ public interface PetUserRepository extends JpaRepository<PetUser, UUID> {
     List<PetUser> findByNameContainingAndRole(String name, UserRole role);
 
     List<PetUser> findByNicknameContainingAndRole(String nickname, UserRole role);
+
+    // 이름 인덱스 구성을 위한 역할별 사용자 이름, 닉네임 조회
+    @Query("SELECT u.userId AS userId, u.name AS name, u.nickname AS nickname FROM PetUser u WHERE u.role = :role")
+    List<UserNameProjection> findAllNamesByRole(@Param("role") UserRole role);
+
+    // 변경 감지를 위한 역할별 사용자 수, 최종 수정 시각 조회
+    @Query("SELECT COUNT(u), MAX(u.updatedAt) FROM PetUser u WHERE u.role = :role")
+    List<Object[]> findCountAndLastModifiedByRole(@Param("role") UserRole role);
+
+    interface UserNameProjection {
+        UUID getUserId();
+        String getName();
+        String getNickname();
+    }
 }
@@ -0,0 +1,4 @@
+package org.lucky0111.pettalkmcpserver.service;
+
+public interface ApplyService {
+}
@@ -0,0 +1,189 @@
+package org.lucky0111.pettalkmcpserver.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.lucky0111.pettalkmcpserver.domain.common.ApplyStatus;
+import org.lucky0111.pettalkmcpserver.domain.common.ErrorCode;
+import org.lucky0111.pettalkmcpserver.domain.dto.match.UserAppliesResponseDTO;
+import org.lucky0111.pettalkmcpserver.domain.dto.match.UserApplyResponseDTO;
+import org.lucky0111.pettalkmcpserver.domain.entity.match.UserApply;
+import org.lucky0111.pettalkmcpserver.domain.entity.trainer.Trainer;
+import org.lucky0111.pettalkmcpserver.domain.entity.user.PetUser;
+import org.lucky0111.pettalkmcpserver.exception.CustomException;
+import org.lucky0111.pettalkmcpserver.metrics.SqlBudget;
+import org.lucky0111.pettalkmcpserver.repository.match.UserApplyRepository;
+import org.lucky0111.pettalkmcpserver.repository.trainer.TrainerRepository;
+import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.annotation.ToolParam;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ApplyServiceImpl implements ApplyService {
+
+    private final TrainerRepository trainerRepository;
+    private final UserApplyRepository userApplyRepository;
+    private final int APPLY_PAGE_SIZE = 10; // 한 번에 반환할 신청서 수
+
+    // 첫 페이지 조회용 커서 (모든 신청서보다 뒤)
+    private static final LocalDateTime FIRST_PAGE_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final String CURSOR_SEPARATOR = "_";
+
+    // 리뷰 작성 여부 조회 시 IN 목록 최대 길이
+    private static final int REVIEW_LOOKUP_BATCH_SIZE = 1000;
+
+    // 훈련사(+사용자) 2 + 신청서 페이지 1 + 리뷰 작성 여부 1
+    @SqlBudget(4)
+    @Tool(
+    name = "getTrainerApplies",
+    description = """
+    이 도구는 훈련사에게 들어온 훈련 신청서를 최신순으로 페이지 단위로 가져옵니다.
+    **훈련사가 자신에게 온 신청 목록을 확인하려고 할 때 사용하세요.**
+    
+    ### 사용 방법
+    1. 훈련사 닉네임을 전달하면 최신 신청서부터 가져옵니다
+    2. status를 전달하면 해당 상태의 신청서만 가져옵니다 (PENDING, APPROVED, REJECTED)
+    3. hasMore가 true이면 응답의 nextCursor를 cursor로 전달하여 다음 페이지를 가져옵니다
+    
+    ### 반환 데이터
+    - applies: 신청서 목록 (최대 10개)
+     - applyId, userNickname, serviceType, petType, petBreed, petMonthAge, content, applyStatus, hasReviewed, createdAt
+    - nextCursor: 다음 페이지 조회 시 전달할 값
+    - hasMore: 다음 페이지 존재 여부
+    
+    ### 응답 형식
+    - 신청 내용을 임의로 생성하지 마세요
+    - 전체 신청서 수는 제공되지 않습니다
+    """
+    )
+    public UserAppliesResponseDTO getTrainerApplies(
+            @ToolParam(description = """
+            신청서를 조회할 훈련사 닉네임
+            """)
+            String trainerNickname,
+            @ToolParam(required = false, description = """
+            신청 상태 (PENDING, APPROVED, REJECTED 중 하나, 전체 조회 시 생략)
+            """)
+            String status,
+            @ToolParam(required = false, description = """
+            이전 응답의 nextCursor (첫 페이지는 생략)
+            """)
+            String cursor
+    ) {
+        log.info("Received trainerNickname: {}, status: {}, cursor: {}", trainerNickname, status, cursor);
+
+        Trainer trainer = trainerRepository.findByUser_Nickname(trainerNickname)
+                .orElseThrow(() -> new CustomException(ErrorCode.TRAINER_NOT_FOUND));
+        ApplyStatus applyStatus = parseStatus(status);
+
+        // 키셋 커서 (createdAt, applyId), 다음 페이지 존재 여부 확인을 위해 한 개 더 조회
+        LocalDateTime createdAt = FIRST_PAGE_CREATED_AT;
+        long applyId = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            int separator = cursor.lastIndexOf(CURSOR_SEPARATOR);
+            try {
+                createdAt = LocalDateTime.parse(cursor.substring(0, separator));
+                applyId = Long.parseLong(cursor.substring(separator + 1));
+            } catch (DateTimeParseException | IndexOutOfBoundsException | NumberFormatException e) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+        }
+        PageRequest pageRequest = PageRequest.of(0, APPLY_PAGE_SIZE + 1);
+
+        List<UserApply> rows = applyStatus == null
+                ? userApplyRepository.findByTrainer_TrainerIdWithRelationsBefore(
+                        trainer.getTrainerId(), createdAt, applyId, pageRequest)
+                : userApplyRepository.findByTrainer_TrainerIdAndStatusWithRelationsBefore(
+                        trainer.getTrainerId(), applyStatus, createdAt, applyId, pageRequest);
+
+        boolean hasMore = rows.size() > APPLY_PAGE_SIZE;
+        if (hasMore) {
+            rows = rows.subList(0, APPLY_PAGE_SIZE);
+        }
+
+        // 리뷰 작성 여부는 reviews 테이블 기준으로 한 번에 조회
+        Map<Long, Boolean> hasReviewMap = hasReviewByApplyIds(
+                rows.stream().map(UserApply::getApplyId).toList());
+
+        List<UserApplyResponseDTO> applies = rows.stream()
+                .map(userApply -> convertToApplyDTO(userApply,
+                        hasReviewMap.getOrDefault(userApply.getApplyId(), userApply.isHasReviewed())))
+                .toList();
+
+        UserApply last = rows.isEmpty() ? null : rows.get(rows.size() - 1);
+        String nextCursor = last == null ? null : last.getCreatedAt() + CURSOR_SEPARATOR + last.getApplyId();
+
+        log.info("Found {} applies (hasMore {})", applies.size(), hasMore);
+
+        return new UserAppliesResponseDTO(applies, nextCursor, hasMore);
+    }
+
+    /**
+     * 신청서 ID 목록을 기반으로 리뷰 존재 여부를 맵으로 변환
+     * IN 목록이 지나치게 길어지지 않도록 REVIEW_LOOKUP_BATCH_SIZE 단위로 나누어 조회
+     * @param applyIds 신청서 ID 목록
+     * @return 맵(키: 신청서 ID, 값: 리뷰 존재 여부)
+     */
+    private Map<Long, Boolean> hasReviewByApplyIds(List<Long> applyIds) {
+        Map<Long, Boolean> result = new LinkedHashMap<>();
+        if (applyIds == null || applyIds.isEmpty()) {
+            return result;
+        }
+
+        List<Long> distinctIds = applyIds.stream().filter(Objects::nonNull).distinct().toList();
+        distinctIds.forEach(applyId -> result.put(applyId, false));
+        for (int from = 0; from < distinctIds.size(); from += REVIEW_LOOKUP_BATCH_SIZE) {
+            List<Long> batch = distinctIds.subList(from, Math.min(from + REVIEW_LOOKUP_BATCH_SIZE, distinctIds.size()));
+            userApplyRepository.findReviewedApplyIds(batch).forEach(applyId -> result.put(applyId, true));
+        }
+        return result;
+    }
+
+    private ApplyStatus parseStatus(String status) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+        try {
+            return ApplyStatus.valueOf(status.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_APPLY_STATUS);
+        }
+    }
+
+    private UserApplyResponseDTO convertToApplyDTO(UserApply userApply, boolean hasReviewed) {
+        PetUser petUser = userApply.getPetUser();
+        PetUser trainerUser = userApply.getTrainer().getUser();
+
+        return new UserApplyResponseDTO(
+                userApply.getApplyId(),
+                petUser != null ? petUser.getNickname() : null,
+                petUser != null ? petUser.getProfileImageUrl() : null,
+                trainerUser != null ? trainerUser.getName() : null,
+                trainerUser != null ? trainerUser.getNickname() : null,
+                trainerUser != null ? trainerUser.getProfileImageUrl() : null,
+                userApply.getServiceType() != null ? userApply.getServiceType().name() : null,
+                userApply.getPetType(),
+                userApply.getPetBreed(),
+                userApply.getPetMonthAge(),
+                userApply.getContent(),
+                userApply.getImageUrl(),
+                userApply.getApplyStatus(),
+                hasReviewed,
+                format(userApply.getCreatedAt()),
+                format(userApply.getUpdatedAt())
+        );
+    }
+
+    private String format(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toString() : null;
+    }
+}
@@ -4,25 +4,29 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.lucky0111.pettalkmcpserver.domain.common.UserRole;
+import org.lucky0111.pettalkmcpserver.domain.dto.trainer.TrainerAreaCatalogDTO;
 import org.lucky0111.pettalkmcpserver.domain.dto.trainer.TrainerDTO;
+import org.lucky0111.pettalkmcpserver.domain.dto.trainer.TrainerSearchResultDTO;
 import org.lucky0111.pettalkmcpserver.domain.entity.common.Tag;
-import org.lucky0111.pettalkmcpserver.domain.entity.community.Post;
-import org.lucky0111.pettalkmcpserver.domain.entity.trainer.Trainer;
-import org.lucky0111.pettalkmcpserver.domain.entity.user.PetUser;
 import org.lucky0111.pettalkmcpserver.exception.CustomException;
+import org.lucky0111.pettalkmcpserver.index.PostTagBitmapIndex;
+import org.lucky0111.pettalkmcpserver.index.TrainerAreaCatalog;
+import org.lucky0111.pettalkmcpserver.index.TrainerNameIndex;
+import org.lucky0111.pettalkmcpserver.metrics.SqlBudget;
 import org.lucky0111.pettalkmcpserver.repository.common.TagRepository;
 import org.lucky0111.pettalkmcpserver.repository.community.PostRepository;
 import org.lucky0111.pettalkmcpserver.repository.trainer.TrainerRepository;
-import org.lucky0111.pettalkmcpserver.repository.user.PetUserRepository;
 import org.lucky0111.pettalkmcpserver.service.trainer.TrainerService;
 import org.springframework.ai.tool.annotation.Tool;
 import org.springframework.ai.tool.annotation.ToolParam;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 // TrainerResponseDTO 클래스 추가
@@ -47,6 +51,21 @@ class ChatPostDTO {
     private Long postId;
     private String title;
     private String content;
+    private int likeCount;
+    private int commentCount;
+}
+
+@Data
+class ChatPostSearchResponseDTO {
+    private List<ChatPostDTO> posts;
+    private int page; // 현재 페이지 (0부터 시작)
+    private boolean hasNext; // 다음 페이지 존재 여부
+
+    public ChatPostSearchResponseDTO(List<ChatPostDTO> posts, int page, boolean hasNext) {
+        this.posts = posts;
+        this.page = page;
+        this.hasNext = hasNext;
+    }
 }
 
 @Service
@@ -55,10 +74,13 @@ class ChatPostDTO {
 public class ChatServiceImpl implements ChatService {
 
     private final PostRepository postRepository;
-    private final PetUserRepository petUserRepository;
     private final TrainerRepository trainerRepository;
+    private final TrainerNameIndex trainerNameIndex;
+    private final TrainerAreaCatalog trainerAreaCatalog;
+    private final PostTagBitmapIndex postTagBitmapIndex;
     private final TrainerService trainerService;
     private final int MAX_TRAINERS = 4; // 최대 반환할 훈련사 수를 상수로 정의
+    private final int MAX_TRAINERS_BY_NAME = 10; // 이름 검색 시 최대 반환할 훈련사 수
     private final int MAX_POSTS = 4; // 최대 반환할 게시글 수를 상수로 정의
 
     private final String FRONTEND_URL = "https://pet-talk.onrender.com";
@@ -104,33 +126,13 @@ public class ChatServiceImpl implements ChatService {
             ---
             """;
 
-    private final String regionHierarchyToString = """
-    - 수도권 → 서울, 경기, 인천
-       - 서울 → 강남, 강동, 강북, 강서, 관악, 광진, 구로, 금천, 노원, 도봉, 동대문, 동작, 마포, 서대문, 서초, 성동, 성북, 송파, 양천, 영등포, 용산, 은평, 종로, 중구, 중랑
-       - 경기 → 수원, 성남, 용인, 부천, 안산, 안양, 평택, 시흥, 김포, 경기광주, 광명, 군포, 하남, 오산, 이천, 안성, 의왕, 양평, 여주, 과천, 고양, 의정부, 동두천, 구리, 남양주, 파주, 양주, 포천, 연천, 가평
-       - 인천 → 중구, 동구, 미추홀구, 연수구, 남동구, 부평구, 계양구, 서구, 강화군, 옹진군
-       - 부산 → 중구, 서구, 동구, 영도구, 부산진구, 동래구, 남구, 북구, 해운대구, 사하구, 금정구, 강서구, 연제구, 수영구, 사상구, 기장군
-       - 대구 → 중구, 동구, 서구, 남구, 북구, 수성구, 달서구, 달성군
-       - 광주 → 동구, 서구, 남구, 북구, 광산구
-       - 대전 → 동구, 중구, 서구, 유성구, 대덕구
-       - 울산 → 중구, 남구, 동구, 북구, 울주군
-       - 세종 → 세종
-       - 강원 → 춘천, 원주, 강릉, 동해, 태백, 속초, 삼척, 홍천, 횡성, 영월, 평창, 정선, 철원, 화천, 양구, 인제, 고성, 양양
-       - 충북 → 청주, 충주, 제천, 보은, 옥천, 영동, 증평, 진천, 괴산, 음성, 단양
-       - 충남 → 천안, 공주, 보령, 아산, 서산, 논산, 계룡, 당진, 금산, 부여, 서천, 청양, 홍성, 예산, 태안
-       - 전북 → 전주, 군산, 익산, 정읍, 남원, 김제, 완주, 진안, 무주, 장수, 임실, 순창, 고창, 부안
-       - 전남 → 목포, 여수, 순천, 나주, 광양, 담양, 곡성, 구례, 고흥, 보성, 화순, 장흥, 강진, 해남, 영암, 무안, 함평, 영광, 장성, 완도, 진도, 신안
-       - 경북 → 포항, 경주, 김천, 안동, 구미, 영주, 영천, 상주, 문경, 경산, 군위, 의성, 청송, 영양, 영덕, 청도, 고령, 성주, 칠곡, 예천, 봉화, 울진, 울릉
-       - 경남 → 창원, 진주, 통영, 사천, 김해, 밀양, 거제, 양산, 의령, 함안, 창녕, 고성, 남해, 하동, 산청, 함양, 거창, 합천
-       - 제주 → 제주시, 서귀포시
-    """;
-
-
+    // 검색 1 + 상세 정보 일괄 조회 6 (훈련사 수와 무관)
+    @SqlBudget(7)
     @Tool(name = "getTrainerInfo", description = """
     훈련사, 트레이너를 찾아달라는 요청이 있을 경우 이 도구를 사용하세요.
     
     사용자의 요청에 맞는 훈련사를 찾아주는 과정:
-    1. **DB에 저장된 태그 목록, 훈련사 지역 목록을 요청합니다.** 툴 이름: getTrainerAreas, getTagsInDB
+    1. **DB에 저장된 태그 목록을 요청합니다.** 툴 이름: getTagsInDB (지역은 사용자가 언급한 그대로 사용하며 서버에서 하위 지역으로 확장)
     2. 사용자의 상황(반려동물 종류, 문제 행동 등)을 파악하여 적절한 태그, 지역 추출 (**태그 또는 지역은 사용자가 언급한 것만 사용, 언급하지 않은 경우 입력받지 않아도 됨, 사용자에게 집요하게 요청 금지**)
     3. 각 훈련사의 태그, 지역 기반으로 상황에 적합한 1-4명 추천 (항상 최대 4명만 반환, **태그 또는 지역이 없을 경우 해당 조건으로만 검색**)
     4. 훈련사가 없는 경우 일반적인 조언과 다른 검색어 제안
@@ -203,13 +205,14 @@ public class ChatServiceImpl implements ChatService {
            - 태그 생성을 시작하기 전에 반드시 먼저 'getTagsInDB' 도구를 호출해야 합니다.
            - 이 도구는 DB에 저장된 모든 태그 목록을 반환합니다.
            - 태그 추출은 반드시 이 도구가 반환한 태그 목록에서만 선택해야 합니다.
-           - 다른 어떤 도구도 사용하지 마세요.
+           - 'getTagsInDB', 'findTags' 외의 다른 도구는 사용하지 마세요.
            
            ### 관련된 모든 태그 추출 규칙
            - 사용자가 키워드(예: '배변')를 요청하면 해당 키워드가 포함된 모든 태그를 추출해야 합니다.
            - 단일 태그만 추출하지 말고, 관련된 모든 태그를 포함해야 합니다.
            - 예시: '배변'이란 키워드 요청 시 '배변훈련'뿐만 아니라 '배변문제질문', '배변스프레이후기', '배변알림벨후기', '배변용품후기', '배변유도제후기', '배변패드후기', '배변훈련용품후기' 등 '배변'이 포함된 모든 태그를 추출해야 합니다.
            - 부분 일치도 포함: 사용자 키워드가 태그의 일부분으로 포함되어 있으면 해당 태그도 모두 추출합니다.
+           - 키워드가 포함된 태그는 'findTags' 도구(예: keyword='배변')로 정확하게 조회할 수 있습니다.
            
            태그 추출 순서:
            1. **DB에 저장된 태그 목록을 요청합니다.** 툴 이름: getTagsInDB
@@ -221,30 +224,15 @@ public class ChatServiceImpl implements ChatService {
             @ToolParam(description = """
            사용자 요청에서 추출한 지역 목록입니다. 다음과 같은 지역 정보를 추출하세요:
            
-           ### 매우 중요: 항상 먼저 'getTrainerAreas' 도구를 호출하세요
-           - 훈련사 지역 생성을 시작하기 전에 반드시 먼저 'getTrainerAreas' 도구를 호출해야 합니다.
-           - 이 도구는 DB에 저장된 모든 훈련사 지역 목록을 반환합니다.
-           - **훈련사 지역 추출은 반드시 이 도구가 반환한 훈련사 지역 목록에서만 선택**해야 합니다.
-           - 다른 어떤 도구도 사용하지 마세요.
-           
-           지역 추출 순서:
-           1. **DB에 저장된 훈련사 지역 목록을 요청합니다.** 툴 이름: getTrainerAreas
-           2. **DB에 있는 훈련사 지역 목록을 기반으로 사용자가 제공한 정보에 맞는 지역를 추출**합니다.
+           - 사용자가 언급한 지역만 그대로 입력하세요. (예시: "경기 지역 훈련사 찾아주세요"일 경우 ["경기"])
+           - 지역은 다양한 범위로 입력할 수 있습니다:
+             - 넓은 범위: 서울, 경기, 부산 (광역시, 특별시, 도)
+             - 좁은 범위: 강남, 용산, 용인, 수원, 성남, 분당, 동탄 (시, 구, 생활권)
+           - 상위 지역은 서버에서 DB에 존재하는 모든 하위 지역으로 자동 확장되므로 하위 지역을 직접 나열하지 마세요.
+           - "서울특별시", "경기도", "강남구"처럼 행정구역 단위가 붙어 있어도 그대로 입력하면 됩니다.
            
-           지역은 다양한 범위로 추출할 수 있습니다:
-           - 넓은 범위: 서울, 경기, 부산 (광역시, 특별시, 도)
-           - 좁은 범위: 강남, 용산, 용인, 수원, 성남 (시, 구)
-           
-           매우 중요: 사용자가 상위 지역을 언급하면, 해당 지역과 모든 하위 지역을 areas 배열에 함께 포함해야 합니다.
-
-           프로그램에서 따로 지역 확장을 하지 않으므로, 여기서 상위 지역에 대한 DB 내 모든 하위 지역을 직접 포함시켜야 합니다.
-           
-           여기서 DB에 저장된 지역만 추출합니다. (예시: DB(["경기", "동탄", "광진, 성동, 잠실, 강남", "서울", "남양주, 동두천, 의정부", "성남", "해운대", "부산", "분당"] 이고 요청이 "경기 지역 훈련사 찾아주세요"일 경우 ["경기", "동탄", "남양주", "동두천", "의정부", "성남", "분당"] 만 포함))
-           
-           지역 계층 구조는 큰 틀의 예시이며 모든 하위 지역을 포함하지 않는 참고용 예시입니다. 그러므로 동탄, 분당 같은 변수가 있을 수 있습니다.
-           
-           지역 계층 구조:
-           """ + regionHierarchyToString)
+           범위에 대해 사용자에게 추가 질문은 지양
+           """)
             List<String> areas
     ) {
         // 입력값 로깅
@@ -258,7 +246,7 @@ public class ChatServiceImpl implements ChatService {
 
         // 최대 MAX_TRAINERS(4)개로 제한
         if (trainerSearchTypes.size() > MAX_TRAINERS) {
-            Map<TrainerDTO, String> limitedTrainerSearchTypes = new HashMap<>();
+            Map<TrainerDTO, String> limitedTrainerSearchTypes = new LinkedHashMap<>();
             int count = 0;
 
             for (Map.Entry<TrainerDTO, String> entry : trainerSearchTypes.entrySet()) {
@@ -278,81 +266,36 @@ public class ChatServiceImpl implements ChatService {
     }
 
     private Map<TrainerDTO, String> getTrainersByTagsAndAreas(List<String> tags, List<String> areas) {
-        Map<TrainerDTO, String> trainerSearchTypes = new HashMap<>(); // 각 TrainerDTO와 검색 유형 연결
-
-        // 중복 방지를 위한 Set
-        Set<String> addedTrainerNicknames = new HashSet<>();
-
-        // 1. tags와 areas 모두 충족하는 훈련사가 있는 경우
-        if(!tags.isEmpty() && !areas.isEmpty()) {
-            List<Trainer> trainers = trainerRepository.findAllByTagsAndAreas(tags, areas);
-            if (!trainers.isEmpty()) {
-                for (Trainer trainer : trainers) {
-                    String nickname = trainer.getUser().getNickname();
-                    if (addedTrainerNicknames.add(nickname)) {
-                        TrainerDTO trainerDTO = trainerService.getTrainerDetails(nickname);
-                        trainerSearchTypes.put(trainerDTO, "both"); // 각 TrainerDTO와 검색 유형 연결
-
-                        log.info("Found both trainer: {}", trainerDTO);
-                        if (trainerSearchTypes.size() >= MAX_TRAINERS) {
-                            break;
-                        }
-                    }
-                }
-            }
-        }
-
-        // 2. 태그 기반 훈련사 처리 (아직 MAX_TRAINERS에 도달하지 않은 경우)
-        int tagCount = 0;
-        if (!tags.isEmpty() && trainerSearchTypes.size() < MAX_TRAINERS) {
-            List<Trainer> tagTrainers = trainerRepository.findAllByTags(tags);
-            for (Trainer trainer : tagTrainers) {
-                String nickname = trainer.getUser().getNickname();
-                // 중복 체크
-                if (addedTrainerNicknames.add(nickname)) {
-                    TrainerDTO trainerDTO = trainerService.getTrainerDetails(nickname);
-                    trainerSearchTypes.put(trainerDTO, "tag"); // 각 TrainerDTO와 검색 유형 연결
-
-                    log.info("Found tag trainer: {}", trainerDTO);
-                    tagCount++;
-                    if (trainerSearchTypes.size() >= MAX_TRAINERS / 2) {
-                        break;
-                    }
-                }
-            }
+        // 1. 태그/지역 일치 유형(both > tag > area)과 점수 순으로 상위 MAX_TRAINERS명만 조회
+        List<TrainerSearchResultDTO> searchResults = trainerRepository.searchRankedTrainers(
+                tags != null ? tags : Collections.emptyList(),
+                areas != null ? areas : Collections.emptyList(),
+                MAX_TRAINERS
+        );
+
+        // 각 훈련사 ID와 검색 유형 연결 (검색 순서 유지)
+        Map<UUID, String> trainerIdSearchTypes = new LinkedHashMap<>();
+        for (TrainerSearchResultDTO result : searchResults) {
+            trainerIdSearchTypes.put(result.trainerId(), result.searchType());
+            log.info("Found {} trainer: {} (score: {})", result.searchType(), result.trainerId(), result.score());
         }
 
-        // 3. 지역 기반 훈련사 처리
-        int areaCount = 0;
-        if (tagCount <= 1) {
-            tagCount = MAX_TRAINERS - trainerSearchTypes.size();
-        }
-        if (!areas.isEmpty()) {
-            List<Trainer> areaTrainers = trainerRepository.findAllByAreas(areas);
-            for (Trainer trainer : areaTrainers) {
-                String nickname = trainer.getUser().getNickname();
-                // 중복 체크
-                if (addedTrainerNicknames.add(nickname)) {
-                    TrainerDTO trainerDTO = trainerService.getTrainerDetails(nickname);
-                    trainerSearchTypes.put(trainerDTO, "area"); // 각 TrainerDTO와 검색 유형 연결
-
-                    log.info("Found area trainer: {}", trainerDTO);
-                    areaCount++;
-                    if (areaCount >= tagCount) {
-                        break;
-                    }
-                }
-            }
+        // 2. 선택된 훈련사 정보를 한 번에 조회
+        Map<TrainerDTO, String> trainerSearchTypes = new LinkedHashMap<>();
+        for (TrainerDTO trainerDTO : trainerService.getTrainerDetails(trainerIdSearchTypes.keySet())) {
+            trainerSearchTypes.put(trainerDTO, trainerIdSearchTypes.get(trainerDTO.trainerId()));
         }
 
         return trainerSearchTypes;
     }
 
 
+    // 이름 검색은 인메모리 인덱스, 상세 정보 일괄 조회 6
+    @SqlBudget(6)
     @Tool(name = "getTrainerDetailsByName", description = """
     훈련사 이름으로 훈련사 정보를 조회할 경우 이 도구를 사용하세요.
     사용자의 요청에 맞는 훈련사 정보를 조회하는 과정:
-    1. 훈련사 이름을 기반으로 훈련사 정보를 조회
+    1. 훈련사 이름을 기반으로 훈련사 정보를 조회 (이름/닉네임 포함 일치 우선, 오타 등 비슷한 이름은 유사도 순으로 포함, 최대 10명)
     2. 훈련사 정보가 존재하는 경우 해당 정보를 반환
     3. 훈련사 정보가 존재하지 않는 경우 "훈련사 정보를 찾을 수 없습니다."라는 메시지 반환
     4. 훈련사 정보가 존재하는 경우 훈련사 프로필 카드 출력
@@ -378,42 +321,28 @@ public class ChatServiceImpl implements ChatService {
         // 입력값 로깅
         log.info("Received trainer nickname: {}", name);
 
-        // name이 훈련사 이름에 포함된 훈련사 정보 PetUser 조회
-        List<PetUser> trainersByName = petUserRepository.findByNameContainingAndRole(name, UserRole.TRAINER);
-        log.info("Found {} trainers by name containing '{}'", trainersByName.size(), name);
-
-        // name이 훈련사 닉네임에 포함된 훈련사 정보 PetUser 조회
-        List<PetUser> trainersByNickname = petUserRepository.findByNicknameContainingAndRole(name, UserRole.TRAINER);
-        log.info("Found {} trainers by nickname containing '{}'", trainersByNickname.size(), name);
-
-        // 두 결과를 합치고 중복 제거
-        Set<PetUser> uniqueTrainers = new HashSet<>();
-        uniqueTrainers.addAll(trainersByName);
-        uniqueTrainers.addAll(trainersByNickname);
+        // 이름 또는 닉네임이 유사한 훈련사 ID 조회 (포함 일치 우선, 유사도 순)
+        List<UUID> trainerIds = trainerNameIndex.search(name, MAX_TRAINERS_BY_NAME);
+        log.info("Found {} trainers by name or nickname similar to '{}'", trainerIds.size(), name);
 
         // 결과 처리
-        List<TrainerDTO> trainerDTOs = new ArrayList<>();
-        if (uniqueTrainers.isEmpty()) {
+        if (trainerIds.isEmpty()) {
             log.warn("No trainers found for name or nickname containing: {}", name);
             return Collections.emptyList(); // 빈 리스트 반환
         }
 
-        // 각 훈련사 정보로 TrainerDTO 생성
-        for (PetUser petUser : uniqueTrainers) {
-            try {
-                TrainerDTO trainerDTO = trainerService.getTrainerDetails(petUser.getNickname());
-                if (trainerDTO != null) {
-                    trainerDTOs.add(trainerDTO);
-                    log.info("Added trainer with nickname: {}", petUser.getNickname());
-                }
-            } catch (Exception e) {
-                log.error("Error getting trainer details for nickname {}: {}", petUser.getNickname(), e.getMessage());
-            }
+        try {
+            List<TrainerDTO> trainerDTOs = trainerService.getTrainerDetails(trainerIds);
+            log.info("Added {} trainers for name '{}'", trainerDTOs.size(), name);
+            return trainerDTOs;
+        } catch (Exception e) {
+            log.error("Error getting trainer details for name {}: {}", name, e.getMessage());
+            return Collections.emptyList();
         }
-
-        return trainerDTOs;
     }
 
+    // 인메모리 카탈로그 (재구성 조회 제외)
+    @SqlBudget(0)
     @Tool(name = "getTrainerAreas", description = """
     이 도구는 DB에 저장된 모든 훈련사 지역 정보 목록을 가져옵니다.
     **DB에 저장된 훈련사 지역 목록을 요청할 경우 이 도구를 사용하세요.**
@@ -428,9 +357,10 @@ public class ChatServiceImpl implements ChatService {
     - 지역 기반 훈련사 검색 시 사용될 올바른 지역명 확인
     
     ### 반환 데이터
-    - List<String> 형태의 모든 훈련사 지역 정보 목록을 반환합니다
-    - 각 문자열은 DB에 저장된 정확한 지역 정보입니다
-    - 각 훈련사마다 방문 가능 지역 정보가 포함됩니다
+    - version: 지역 목록 버전 (지역 목록이 바뀔 때마다 증가)
+    - areas: 중복을 제거한 지역 목록 (훈련사 수가 많은 순)
+     - area: 정규화된 지역명 (예: "강남구" → "강남", "서울특별시" → "서울")
+     - trainerCount: 해당 지역을 방문 가능한 훈련사 수
     
     ### 사용 방법
     1. 사용자의 질문이나 요청에서 지역 관련 정보를 파악하세요
@@ -447,20 +377,18 @@ public class ChatServiceImpl implements ChatService {
     - 이 도구의 결과는 훈련사 검색 시 지역 기반 필터링에 활용할 수 있습니다
     - 사용자에게 특정 지역의 훈련사 정보를 제공할 때 정확한 지역명 참조에 사용하세요
     """)
-    public List<String> getTrainerAreas() {
-        // DB에 저장된 훈련사 지역 정보 목록을 가져오는 로직
-        List<Trainer> trainers = trainerRepository.findAll();
-
-        List<String> trainerAreas = trainers.stream()
-                .map(Trainer::getVisitingAreas)
-                .collect(Collectors.toList());
+    public TrainerAreaCatalogDTO getTrainerAreas() {
+        // 훈련사 지역 정보 목록 (지역 변경 시에만 다시 집계)
+        TrainerAreaCatalogDTO catalog = trainerAreaCatalog.get();
 
-        log.info("Trainer areas: {}", trainerAreas);
+        log.info("Trainer area catalog: version {}, {} areas", catalog.version(), catalog.areas().size());
 
-        return trainerAreas;
+        return catalog;
     }
 
 
+    // 태그 조건은 비트맵 인덱스, 후보 게시글 좋아요/댓글 수 조회 1 + 게시글 요약 조회 1
+    @SqlBudget(2)
     @Tool(name = "getPostInfo", description = """
     이 도구는 사용자의 요청에 따라 반려동물 관련 게시글을 검색합니다.
     게시글 검색 요청이 있을 경우 이 도구를 사용하세요.
@@ -481,11 +409,14 @@ public class ChatServiceImpl implements ChatService {
     - 키워드: 게시글 제목이나 내용에 포함된 관련 단어
     
     ### 반환 데이터
-    - List<PostDTO> 형태의 게시글 목록을 반환합니다.
+    - List<PostDTO> 형태의 게시글 목록을 반환합니다. (최대 4개)
+    - 일치한 태그가 많은 게시글, 좋아요가 많은 게시글, 댓글이 많은 게시글, 최신 게시글 순으로 정렬됩니다.
     - 각 PostDTO에는 다음 정보가 포함됩니다:
      - postId: 게시글 ID
      - title: 게시글 제목
      - content: 게시글 내용
+     - likeCount: 좋아요 수
+     - commentCount: 댓글 수
     
     ### 커뮤니케이션 스타일
     - 게시글 정보를 요약하여 명확하게 전달
@@ -524,42 +455,65 @@ public class ChatServiceImpl implements ChatService {
            - 태그 생성을 시작하기 전에 반드시 먼저 'getTagsInDB' 도구를 호출해야 합니다.
            - 이 도구는 DB에 저장된 모든 태그 목록을 반환합니다.
            - 태그 생성은 반드시 이 도구가 반환한 태그 목록에서만 선택해야 합니다.
-           - 다른 어떤 도구도 사용하지 마세요.
+           - 'getTagsInDB', 'findTags' 외의 다른 도구는 사용하지 마세요.
            
            ### 관련된 모든 태그 추출 규칙
            - 사용자가 키워드(예: '배변')를 요청하면 해당 키워드가 포함된 모든 태그를 추출해야 합니다.
            - 단일 태그만 추출하지 말고, 관련된 모든 태그를 포함해야 합니다.
            - 예시: '배변'이란 키워드 요청 시 '배변훈련'뿐만 아니라 '배변문제질문', '배변스프레이후기', '배변알림벨후기', '배변용품후기', '배변유도제후기', '배변패드후기', '배변훈련용품후기' 등 '배변'이 포함된 모든 태그를 추출해야 합니다.
            - 부분 일치도 포함: 사용자 키워드가 태그의 일부분으로 포함되어 있으면 해당 태그도 모두 추출합니다.
+           - 키워드가 포함된 태그는 'findTags' 도구(예: keyword='배변')로 정확하게 조회할 수 있습니다.
            
            태그 추출 순서:
            1. **DB에 저장된 태그 목록을 요청합니다.**
            2. DB에 있는 태그 목록을 기반으로 사용자가 제공한 정보에 맞는 태그를 추출합니다.
            
            중요한 태그만 추출하고, 불필요한 단어는 포함하지 마세요.
+           하나라도 포함된 게시글을 찾습니다 (OR 조건).
            """)
-            List<String> tags
+            List<String> tags,
+            @ToolParam(required = false, description = """
+           게시글에 반드시 모두 포함되어야 하는 태그 목록입니다 (AND 조건, 선택).
+           사용자가 여러 조건을 동시에 만족하는 게시글을 요청한 경우에만 사용하세요.
+           (예시: '고양이 배변훈련 후기' → ['고양이', '배변훈련'])
+           """)
+            List<String> requiredTags,
+            @ToolParam(required = false, description = """
+           게시글에 포함되지 않아야 하는 태그 목록입니다 (NOT 조건, 선택).
+           사용자가 특정 주제를 제외해달라고 요청한 경우에만 사용하세요.
+           """)
+            List<String> excludedTags
     ) {
         // 입력값 로깅
-        log.info("Received tags: {}", tags);
-
-        // 게시글 검색 로직
-        List<Post> posts = postRepository.findByTags(tags);
-
-        // posts가 비어있는 경우 처리
-        if (posts.isEmpty()) {
+        log.info("Received tags: {}, required: {}, excluded: {}", tags, requiredTags, excludedTags);
+
+        // 게시글 검색 로직: 태그-게시글 비트맵 인덱스에서 조건 계산 후 상위 MAX_POSTS개가 걸친 단계의 후보 ID만 추출
+        PostTagBitmapIndex.SearchResult searchResult = postTagBitmapIndex.search(tags, requiredTags, excludedTags, 0, MAX_POSTS);
+        List<Long> candidatePostIds = searchResult.candidatePostIds();
+
+        // 같은 단계(일치한 태그 수) 안에서는 좋아요 수 → 댓글 수 → 최신순
+        Map<Long, PostRepository.PostCounterProjection> counters = candidatePostIds.isEmpty()
+                ? Collections.emptyMap()
+                : postRepository.findCountersByPostIdIn(candidatePostIds).stream()
+                        .collect(Collectors.toMap(PostRepository.PostCounterProjection::getPostId, counter -> counter));
+        List<Long> postIds = searchResult.rank(Comparator
+                .comparingInt((Long postId) -> counterValue(counters.get(postId), PostRepository.PostCounterProjection::getLikeCount))
+                .thenComparingInt(postId -> counterValue(counters.get(postId), PostRepository.PostCounterProjection::getCommentCount))
+                .reversed());
+
+        // postIds가 비어있는 경우 처리
+        if (postIds.isEmpty()) {
             log.warn("No posts found for tags: {}", tags);
             return Collections.emptyList(); // 게시글이 없는 경우 빈 리스트 반환
         }
 
-        // MAX_POSTS 개로 제한
-        if (posts.size() > MAX_POSTS) {
-            posts = posts.subList(0, MAX_POSTS);
-        }
+        // 선택된 게시글의 제목, 내용만 조회 후 순위 순서대로 DTO 변환
+        Map<Long, PostRepository.PostSummaryProjection> summaries = postRepository.findSummariesByPostIdIn(postIds).stream()
+                .collect(Collectors.toMap(PostRepository.PostSummaryProjection::getPostId, summary -> summary));
 
-        // 검색 결과를 DTO로 변환
-        List<ChatPostDTO> postDTOs = posts.stream()
-                .map(this::convertToPostDTO)
+        List<ChatPostDTO> postDTOs = postIds.stream()
+                .filter(summaries::containsKey)
+                .map(postId -> convertToPostDTO(summaries.get(postId)))
                 .collect(Collectors.toList());
 
         log.info("Found {} posts", postDTOs);
@@ -567,13 +521,82 @@ public class ChatServiceImpl implements ChatService {
         return postDTOs;
     }
 
-    // Post 엔티티를 PostDTO로 변환하는 메서드
-    private ChatPostDTO convertToPostDTO(Post post) {
+    @SqlBudget(1)
+    @Tool(name = "searchPosts", description = """
+    이 도구는 게시글 제목과 내용에서 키워드로 반려동물 관련 게시글을 검색합니다.
+    알맞은 태그가 없거나 태그 검색(getPostInfo) 결과가 없는 경우 이 도구를 사용하세요.
+    
+    ### 사용 예시
+    - "산책할 때 줄을 당기는 강아지 사례 찾아줘" → keyword: '산책 줄 당김'
+    - "고양이가 밤에 우는 이유에 대한 글 있어?" → keyword: '고양이 밤 울음'
+    
+    ### 검색 방식
+    - 제목과 내용을 두 글자 단위로 나누어 검색하므로 두 글자 이상의 핵심 단어를 사용하세요
+    - 관련도가 높은 게시글, 최신 게시글 순으로 정렬됩니다
+    - 한 번에 최대 4개의 게시글을 반환하며, hasNext가 true이면 page를 1씩 늘려 다음 결과를 조회할 수 있습니다
+    
+    ### 반환 데이터
+    - posts: 게시글 목록 (postId, title, content)
+    - page: 현재 페이지 (0부터 시작)
+    - hasNext: 다음 페이지 존재 여부
+    
+    ### 응답 형식
+    - getPostInfo 도구와 동일한 게시글 템플릿과 응답 형식을 따르세요
+    - 게시글 목록이 비어있는 경우 게시글 정보를 임의로 생성하지 마세요
+    
+    게시글 템플릿:
+    """ + postCardTemplate)
+    public ChatPostSearchResponseDTO searchPosts(
+            @ToolParam(description = """
+           사용자 요청에서 추출한 검색 키워드입니다. 핵심 단어를 공백으로 구분하여 입력하세요.
+           """)
+            String keyword,
+            @ToolParam(required = false, description = """
+           조회할 페이지 번호입니다 (0부터 시작, 생략 시 0).
+           """)
+            Integer page
+    ) {
+        // 입력값 로깅
+        log.info("Received keyword: {}, page: {}", keyword, page);
+
+        int pageNumber = page != null && page > 0 ? page : 0;
+        if (keyword == null || keyword.isBlank()) {
+            return new ChatPostSearchResponseDTO(Collections.emptyList(), pageNumber, false);
+        }
+
+        // 관련도 순으로 MAX_POSTS개만 조회 (전체 건수는 세지 않음)
+        Slice<PostRepository.PostSearchProjection> slice =
+                postRepository.searchByKeyword(keyword.trim(), PageRequest.of(pageNumber, MAX_POSTS));
+
+        List<ChatPostDTO> postDTOs = slice.getContent().stream()
+                .map(this::convertToPostDTO)
+                .collect(Collectors.toList());
+
+        log.info("Found {} posts for keyword '{}' (page {}, hasNext {})", postDTOs.size(), keyword, pageNumber, slice.hasNext());
+
+        return new ChatPostSearchResponseDTO(postDTOs, pageNumber, slice.hasNext());
+    }
+
+    // 게시글 요약 정보를 PostDTO로 변환하는 메서드
+    private ChatPostDTO convertToPostDTO(PostRepository.PostSummaryProjection post) {
         ChatPostDTO dto = new ChatPostDTO();
         dto.setPostId(post.getPostId());
         dto.setTitle(post.getTitle());
         dto.setContent(post.getContent());
+        // posts 테이블의 좋아요/댓글 수 (메인 애플리케이션이 갱신)
+        dto.setLikeCount(countOrZero(post.getLikeCount()));
+        dto.setCommentCount(countOrZero(post.getCommentCount()));
 
         return dto;
     }
+
+    // 조회되지 않은(삭제된) 게시글이나 NULL 값은 0으로 취급
+    private static int counterValue(PostRepository.PostCounterProjection counter,
+                                    Function<PostRepository.PostCounterProjection, Integer> getter) {
+        return countOrZero(counter != null ? getter.apply(counter) : null);
+    }
+
+    private static int countOrZero(Integer value) {
+        return value != null ? value : 0;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,150 @@
+package org.lucky0111.pettalkmcpserver.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.lucky0111.pettalkmcpserver.domain.dto.community.CommentResponseDTO;
+import org.lucky0111.pettalkmcpserver.domain.dto.community.CommentsResponseDTO;
+import org.lucky0111.pettalkmcpserver.metrics.SqlBudget;
+import org.lucky0111.pettalkmcpserver.repository.community.CommentRepository;
+import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.annotation.ToolParam;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class CommentServiceImpl implements CommentService {
+
+    private final CommentRepository commentRepository;
+    private final int COMMENT_PAGE_SIZE = 10; // 한 번에 반환할 댓글 수
+    private final int REPLY_PREVIEW_SIZE = 3; // 최상위 댓글마다 함께 반환할 답글 수
+
+    // 댓글 페이지 1 + 답글 미리보기 1
+    @SqlBudget(2)
+    @Tool(
+    name = "getPostComments",
+    description = """
+    이 도구는 게시글의 댓글과 답글을 페이지 단위로 가져옵니다.
+    **게시글의 댓글이나 특정 댓글의 답글을 요청할 때 사용하세요.**
+    
+    ### 사용 방법
+    1. postId만 전달하면 게시글의 최상위 댓글을 오래된 순으로 가져옵니다 (댓글마다 앞쪽 답글 3개 포함)
+    2. parentCommentId를 전달하면 해당 댓글 아래의 모든 답글(답글의 답글 포함)을 작성 순으로 펼쳐서 가져옵니다
+    3. hasMore가 true이면 응답의 nextCursor를 cursor로 전달하여 다음 페이지를 가져옵니다
+    
+    ### 반환 데이터
+    - comments: 댓글 목록 (최대 10개)
+     - commentId, parentCommentId, userNickname, content, createdAt
+     - replies: 답글 미리보기 (최상위 댓글 조회 시)
+     - replyCount: 하위 답글 전체 수 (replies보다 많으면 parentCommentId로 다시 호출하여 조회)
+    - nextCursor: 다음 페이지 조회 시 전달할 값
+    - hasMore: 다음 페이지 존재 여부
+    
+    ### 응답 형식
+    - 댓글 내용을 임의로 생성하지 마세요
+    """
+    )
+    public CommentsResponseDTO getPostComments(
+            @ToolParam(description = """
+            댓글을 조회할 게시글 ID
+            """)
+            Long postId,
+            @ToolParam(required = false, description = """
+            답글을 조회할 댓글 ID (최상위 댓글을 조회하는 경우 생략)
+            """)
+            Long parentCommentId,
+            @ToolParam(required = false, description = """
+            이전 응답의 nextCursor (첫 페이지는 생략)
+            """)
+            Long cursor
+    ) {
+        log.info("Received postId: {}, parentCommentId: {}, cursor: {}", postId, parentCommentId, cursor);
+
+        long after = cursor != null ? cursor : 0L;
+
+        if (parentCommentId != null) {
+            // 하위 답글 전체를 클로저 테이블 기준 한 번의 쿼리로 조회
+            List<CommentRepository.ReplyRowProjection> rows =
+                    commentRepository.findDescendantsAfter(parentCommentId, after, COMMENT_PAGE_SIZE + 1);
+
+            boolean hasMore = rows.size() > COMMENT_PAGE_SIZE;
+            List<CommentResponseDTO> replies = rows.stream()
+                    .limit(COMMENT_PAGE_SIZE)
+                    .map(row -> convertToCommentDTO(row, Collections.emptyList(), row.getReplyCount()))
+                    .toList();
+
+            return toResponse(replies, hasMore);
+        }
+        if (postId == null) {
+            return new CommentsResponseDTO(Collections.emptyList(), null, false);
+        }
+
+        // 1. 최상위 댓글 페이지 조회 (다음 페이지 존재 여부 확인을 위해 한 개 더 조회)
+        List<CommentRepository.CommentRowProjection> rows =
+                commentRepository.findRootCommentsAfter(postId, after, PageRequest.of(0, COMMENT_PAGE_SIZE + 1));
+
+        boolean hasMore = rows.size() > COMMENT_PAGE_SIZE;
+        if (hasMore) {
+            rows = rows.subList(0, COMMENT_PAGE_SIZE);
+        }
+
+        // 2. 페이지 내 댓글의 답글 미리보기와 전체 답글 수 일괄 조회
+        Map<Long, List<CommentRepository.ReplyPreviewProjection>> previews = rows.isEmpty() ? Collections.emptyMap() :
+                commentRepository.findReplyPreviews(
+                                rows.stream().map(CommentRepository.CommentRowProjection::getCommentId).toList(),
+                                REPLY_PREVIEW_SIZE).stream()
+                        .collect(Collectors.groupingBy(CommentRepository.ReplyPreviewProjection::getRootCommentId));
+
+        List<CommentResponseDTO> comments = rows.stream()
+                .map(row -> {
+                    List<CommentRepository.ReplyPreviewProjection> replyRows =
+                            previews.getOrDefault(row.getCommentId(), Collections.emptyList());
+                    // 미리보기 행마다 루트 댓글의 전체 답글 수가 함께 조회됨
+                    long replyCount = replyRows.isEmpty() ? 0L : replyRows.get(0).getRootReplyCount();
+                    List<CommentResponseDTO> replies = replyRows.stream()
+                            .map(reply -> convertToCommentDTO(reply, Collections.emptyList(), reply.getReplyCount()))
+                            .toList();
+                    return convertToCommentDTO(row, replies, replyCount);
+                })
+                .toList();
+
+        return toResponse(comments, hasMore);
+    }
+
+    private CommentsResponseDTO toResponse(List<CommentResponseDTO> comments, boolean hasMore) {
+        Long nextCursor = comments.isEmpty() ? null : comments.get(comments.size() - 1).commentId();
+
+        log.info("Found {} comments (hasMore {})", comments.size(), hasMore);
+
+        return new CommentsResponseDTO(comments, nextCursor, hasMore);
+    }
+
+    private CommentResponseDTO convertToCommentDTO(CommentRepository.CommentRowProjection row,
+                                                   List<CommentResponseDTO> replies,
+                                                   long replyCount) {
+        return new CommentResponseDTO(
+                row.getCommentId(),
+                row.getPostId(),
+                row.getUserName(),
+                row.getUserNickname(),
+                row.getProfileImageUrl(),
+                row.getParentCommentId(),
+                row.getContent(),
+                replies,
+                (int) replyCount,
+                format(row.getCreatedAt()),
+                format(row.getUpdatedAt())
+        );
+    }
+
+    private String format(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toString() : null;
+    }
+}
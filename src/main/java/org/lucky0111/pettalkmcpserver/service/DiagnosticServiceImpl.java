@@ -0,0 +1,49 @@
+package org.lucky0111.pettalkmcpserver.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.lucky0111.pettalkmcpserver.domain.dto.common.ToolMetricsDTO;
+import org.lucky0111.pettalkmcpserver.metrics.SqlBudget;
+import org.lucky0111.pettalkmcpserver.metrics.ToolMetrics;
+import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.annotation.ToolParam;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class DiagnosticServiceImpl implements DiagnosticService {
+
+    private final ToolMetrics toolMetrics;
+
+    @SqlBudget(0)
+    @Tool(
+    name = "getToolMetrics",
+    description = """
+    이 도구는 MCP 서버 도구별 호출 지표를 가져옵니다. (진단용)
+    **운영자가 어떤 도구가 느린지, 쿼리를 많이 실행하는지 확인하려고 할 때만 사용하세요.**
+    
+    ### 반환 데이터 (서버 시작 이후 누적)
+    - toolName: 도구 이름
+    - calls, errors: 호출 수, 오류 수
+    - meanMs, p50Ms, p95Ms, p99Ms, maxMs: 호출 시간 (밀리초)
+    - meanResultBytes, meanResultItems: 평균 결과 크기 (바이트), 평균 결과 항목 수
+    - meanSqlStatements, maxSqlStatements: 호출당 실행한 SQL 문 수
+    - sqlBudget, sqlBudgetExceeded: 호출당 허용 SQL 문 수 (없으면 null), 초과한 호출 수
+    
+    ### 응답 형식
+    - 지표 값을 임의로 생성하지 마세요
+    """
+    )
+    public List<ToolMetricsDTO> getToolMetrics(
+            @ToolParam(required = false, description = """
+            조회할 도구 이름 (전체 조회 시 생략)
+            """)
+            String toolName
+    ) {
+        log.info("Received toolName: {}", toolName);
+        return toolMetrics.snapshot(toolName);
+    }
+}
@@ -2,21 +2,28 @@ package org.lucky0111.pettalkmcpserver.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.lucky0111.pettalkmcpserver.domain.entity.common.Tag;
-import org.lucky0111.pettalkmcpserver.repository.common.TagRepository;
+import org.lucky0111.pettalkmcpserver.domain.dto.common.TagCatalogDTO;
+import org.lucky0111.pettalkmcpserver.index.TagCatalog;
+import org.lucky0111.pettalkmcpserver.index.TagLookupIndex;
+import org.lucky0111.pettalkmcpserver.metrics.SqlBudget;
 import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.annotation.ToolParam;
 import org.springframework.stereotype.Service;
 
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class TagServiceImpl implements TagService {
 
-    private final TagRepository tagRepository;
+    private final TagCatalog tagCatalog;
+    private final TagLookupIndex tagLookupIndex;
+    private final int MAX_TAG_MATCHES = 50; // 키워드 검색 시 최대 반환할 태그 수
 
+    // 인메모리 카탈로그/인덱스 (재구성 조회 제외)
+    @SqlBudget(0)
     @Tool(
     name = "getTagsInDB",
     description = """
@@ -31,12 +38,15 @@ public class TagServiceImpl implements TagService {
     - 중복 태그 생성 방지 및 태그 일관성 유지
     
     ### 반환 데이터
-    - List<String> 형태의 모든 태그 이름 목록을 반환합니다
-    - 각 문자열은 DB에 저장된 정확한 태그 이름입니다
+    - version: 태그 목록 버전 (태그가 추가/변경될 때마다 증가)
+    - unchanged: knownVersion이 현재 버전과 같으면 true, 이때 tags는 비어 있습니다
+    - tags: 모든 태그 이름 목록 (각 문자열은 DB에 저장된 정확한 태그 이름)
     
     ### 사용 방법
     1. 사용자의 질문이나 요청에서 키워드로 태그를 파악하세요
     2. 이 도구를 호출하여 DB에 있는 태그 목록을 확인하세요
+       - 이 대화에서 이미 태그 목록을 받은 적이 있다면 그때 받은 version을 knownVersion으로 전달하세요
+       - unchanged가 true이면 이전에 받은 태그 목록을 그대로 사용하세요
     3. 사용자 요청의 태그와 DB의 태그를 비교하여 일치하는 지역을 선택하세요
     4. 선택된 태그를 기반으로 훈련사 검색 또는 게시글 검색 또는 다른 작업을 수행하세요
     
@@ -46,16 +56,59 @@ public class TagServiceImpl implements TagService {
 
     """
     )
-    public List<String> getTagsInDB(
+    public TagCatalogDTO getTagsInDB(
+            @ToolParam(required = false, description = """
+            이전에 받은 태그 목록의 version (처음 호출하는 경우 생략)
+            """)
+            Long knownVersion
     ) {
-        List<String> tagList = tagRepository.findAll()
-                .stream()
-                .map(Tag::getTagName)
-                .collect(Collectors.toList());
+        TagCatalog.Snapshot snapshot = tagCatalog.get();
 
-        log.info("Tag List: {}", tagList);
+        // 태그 목록이 바뀌지 않았으면 목록을 다시 보내지 않음
+        if (knownVersion != null && knownVersion == snapshot.version()) {
+            log.info("Tag list unchanged: version {}", snapshot.version());
+            return new TagCatalogDTO(snapshot.version(), true, Collections.emptyList());
+        }
 
-        return tagList;
+        log.info("Tag list: version {}, {} tags", snapshot.version(), snapshot.tagNames().size());
+
+        return new TagCatalogDTO(snapshot.version(), false, snapshot.tagNames());
+    }
+
+    @SqlBudget(0)
+    @Tool(
+    name = "findTags",
+    description = """
+    이 도구는 키워드와 일치하는 태그만 DB에서 찾아 반환합니다.
+    **키워드가 포함된 태그가 필요할 때 전체 태그 목록(getTagsInDB) 대신 사용하세요.**
+    
+    ### 사용 예시
+    - '배변' → 배변훈련, 배변패드후기, 배변문제질문 등 '배변'이 포함된 태그 (일치 순서대로 최대 50개)
+    - 'ㅂㅂ' → 초성에 ㅂㅂ이 연속으로 포함된 태그 (배변훈련(ㅂㅂㅎㄹ), 배변패드후기 등 초성 검색)
+    - 'ㅂㄹ' → 분리불안(ㅂㄹㅂㅇ) 등
+    
+    ### 일치 규칙
+    - 정확히 일치 → 접두사 일치 → 부분 일치 → 초성 일치 순으로 정렬됩니다
+    - 공백과 대소문자는 무시합니다
+    - 초성(ㄱ~ㅎ)만 입력하면 초성 검색을 함께 수행합니다 (태그 초성에 입력한 초성이 연속으로 포함되어야 함)
+    
+    ### 반환 데이터
+    - List<String> 형태의 태그 이름 목록 (최대 50개, 더 많이 일치하면 정렬 순서상 앞쪽 50개만 반환하므로 더 구체적인 키워드로 다시 검색하세요)
+    - 각 문자열은 DB에 저장된 정확한 태그 이름이므로 그대로 getTrainerInfo, getPostInfo의 tags에 사용할 수 있습니다
+    - 일치하는 태그가 없으면 빈 목록을 반환합니다
+    """
+    )
+    public List<String> findTags(
+            @ToolParam(description = """
+            검색할 키워드 (예: '배변', '분리불안', 'ㅂㅂ')
+            """)
+            String keyword
+    ) {
+        List<String> tags = tagLookupIndex.find(keyword, MAX_TAG_MATCHES);
+
+        log.info("Found {} tags for keyword '{}'", tags.size(), keyword);
+
+        return tags;
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,138 @@
+package org.lucky0111.pettalkmcpserver.service.common;
+
+import lombok.extern.slf4j.Slf4j;
+import org.lucky0111.pettalkmcpserver.config.QueryExecutorConfig;
+import org.lucky0111.pettalkmcpserver.domain.common.ErrorCode;
+import org.lucky0111.pettalkmcpserver.exception.CustomException;
+import org.lucky0111.pettalkmcpserver.metrics.SqlStatementCounter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * 서로 독립적인 읽기 쿼리를 전용 실행기에서 동시에 실행
+ * - 각 쿼리는 실행 스레드에서 별도의 읽기 전용 트랜잭션으로 실행 (EntityManager는 스레드 간 공유 불가)
+ * - 호출 단위 마감 시간: 남은 시간을 트랜잭션 타임아웃(쿼리 타임아웃)으로 전달하고, 초과 시 QUERY_TIMEOUT 예외
+ *   (CompletableFuture.cancel은 실행 스레드를 인터럽트하지 않으므로, 이미 실행 중인 쿼리는 쿼리 타임아웃이 지나야 중단되고 커넥션을 반환함)
+ * - 각 쿼리가 별도의 영속성 컨텍스트에서 실행되므로, EAGER 연관관계는 쿼리에서 fetch join 해야 엔티티별 추가 SELECT가 없음
+ * - pettalk.query-executor.concurrent=false 이면 호출 스레드에서 순차 실행
+ *
+ * 사용 예:
+ * <pre>
+ * ParallelQueryRunner.Call call = parallelQueryRunner.newCall();
+ * Supplier&lt;List&lt;A&gt;&gt; a = call.fork(() -> repositoryA.findAll());
+ * Supplier&lt;List&lt;B&gt;&gt; b = call.fork(() -> repositoryB.findAll());
+ * call.join();
+ * </pre>
+ */
+@Slf4j
+@Component
+public class ParallelQueryRunner {
+
+    private final AsyncTaskExecutor queryExecutor;
+    private final PlatformTransactionManager transactionManager;
+    private final boolean concurrent;
+    private final Duration deadline;
+
+    public ParallelQueryRunner(
+            @Qualifier(QueryExecutorConfig.QUERY_EXECUTOR) AsyncTaskExecutor queryExecutor,
+            PlatformTransactionManager transactionManager,
+            @Value("${pettalk.query-executor.concurrent:true}") boolean concurrent,
+            @Value("${pettalk.query-executor.deadline:3s}") Duration deadline) {
+        this.queryExecutor = queryExecutor;
+        this.transactionManager = transactionManager;
+        this.concurrent = concurrent;
+        this.deadline = deadline;
+    }
+
+    /**
+     * 마감 시간이 시작되는 새 호출 단위 생성
+     */
+    public Call newCall() {
+        return new Call(System.nanoTime() + deadline.toNanos());
+    }
+
+    public class Call {
+
+        private final long deadlineNanos;
+        private final List<CompletableFuture<?>> futures = new ArrayList<>();
+
+        private Call(long deadlineNanos) {
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        /**
+         * 쿼리 실행 예약 (순차 모드에서는 즉시 실행)
+         * @return join() 이후 결과를 반환하는 Supplier
+         */
+        public <T> Supplier<T> fork(Supplier<T> query) {
+            if (!concurrent) {
+                T result = runInReadOnlyTransaction(query);
+                return () -> result;
+            }
+
+            // 도구 호출별 SQL 문 수 집계 범위를 실행 스레드로 전달
+            CompletableFuture<T> future = CompletableFuture.supplyAsync(
+                    SqlStatementCounter.propagate(() -> runInReadOnlyTransaction(query)), queryExecutor);
+            futures.add(future);
+            return future::join;
+        }
+
+        /**
+         * 예약된 모든 쿼리 완료 대기
+         * 마감 시간 초과 시 아직 시작하지 않은 쿼리만 취소 (실행 중인 쿼리는 쿼리 타임아웃으로 중단)
+         */
+        public void join() {
+            if (futures.isEmpty()) {
+                return;
+            }
+
+            CompletableFuture<Void> all = CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+            try {
+                all.get(Math.max(remainingNanos(), 0L), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                futures.forEach(future -> future.cancel(false));
+                log.warn("Parallel query deadline exceeded ({} queries, deadline {})", futures.size(), deadline);
+                throw new CustomException(ErrorCode.QUERY_TIMEOUT);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(future -> future.cancel(false));
+                throw new CustomException(ErrorCode.QUERY_TIMEOUT);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new IllegalStateException(cause);
+            }
+        }
+
+        private <T> T runInReadOnlyTransaction(Supplier<T> query) {
+            long remainingNanos = remainingNanos();
+            if (remainingNanos <= 0) {
+                throw new CustomException(ErrorCode.QUERY_TIMEOUT);
+            }
+
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            transactionTemplate.setReadOnly(true);
+            transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRED);
+            // 남은 시간을 쿼리 타임아웃으로 적용 (초 단위 올림)
+            transactionTemplate.setTimeout((int) Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(remainingNanos + 999_999_999L)));
+            return transactionTemplate.execute(status -> query.get());
+        }
+
+        private long remainingNanos() {
+            return deadlineNanos - System.nanoTime();
+        }
+    }
+}
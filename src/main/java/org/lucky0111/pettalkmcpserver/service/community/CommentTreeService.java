@@ -0,0 +1,80 @@
+package org.lucky0111.pettalkmcpserver.service.community;
+
+import lombok.extern.slf4j.Slf4j;
+import org.lucky0111.pettalkmcpserver.repository.community.CommentRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * comments → comment_closure (댓글 트리 클로저 테이블) 주기적 동기화
+ * 댓글은 메인 애플리케이션만 등록하므로 이 주기적 동기화가 클로저 테이블을 채우는 유일한 경로
+ * 답글 조회는 클로저 테이블만 사용하므로, 새 답글은 다음 동기화(기본 10초) 이후에 조회됨
+ * 동기화는 마지막으로 완료한 댓글 ID 직전 구간부터만 확인하므로 한 번의 비용이 작음
+ * (시작 직후 첫 실행은 전체 댓글을 확인하여 최초 배포 등으로 비어 있는 클로저 테이블도 채움)
+ * 댓글 삭제는 외래 키(ON DELETE CASCADE)로 함께 삭제되므로 별도 처리하지 않음
+ */
+@Slf4j
+@Service
+public class CommentTreeService {
+
+    // 한 번의 동기화에서 처리할 최대 트리 깊이
+    private static final int MAX_SYNC_DEPTH = 32;
+
+    // 다음 동기화에서 다시 확인할 직전 댓글 ID 구간
+    private static final long SYNC_OVERLAP = 1000L;
+
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate requiresNewTransaction;
+
+    // 이 ID 이하의 댓글은 클로저 행이 모두 반영됨 (동기화 범위 축소용)
+    private volatile long syncedCommentId = 0L;
+
+    public CommentTreeService(CommentRepository commentRepository, PlatformTransactionManager transactionManager) {
+        this.commentRepository = commentRepository;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 마지막 동기화 이후 등록된 댓글의 클로저 행 추가
+     * 자기 자신 행을 먼저 추가한 뒤, 부모의 조상 행을 트리 깊이만큼 반복하여 전파
+     */
+    @Scheduled(fixedDelayString = "${pettalk.comment-tree.sync-interval-ms:10000}")
+    public void sync() {
+        long start = System.currentTimeMillis();
+        long after = syncedCommentId;
+
+        Long maxCommentId = requiresNewTransaction.execute(status -> {
+            Long max = commentRepository.findMaxCommentId();
+            int inserted = commentRepository.insertMissingSelfLinks(after);
+            boolean complete = false;
+            for (int depth = 0; depth < MAX_SYNC_DEPTH; depth++) {
+                int ancestors = commentRepository.insertMissingAncestorLinks(after);
+                inserted += ancestors;
+                if (ancestors == 0) {
+                    complete = true;
+                    break;
+                }
+            }
+            if (inserted > 0) {
+                log.info("Comment closure synced: {} rows in {}ms", inserted, System.currentTimeMillis() - start);
+            }
+            if (!complete) {
+                // 남은 조상 행은 다음 동기화에서 같은 구간부터 이어서 반영
+                log.warn("Comment closure sync stopped at depth {}, continuing from commentId {} next time",
+                        MAX_SYNC_DEPTH, after);
+                return null;
+            }
+            return max;
+        });
+
+        // 동기화 시점에 커밋되지 않은 댓글이 있을 수 있으므로 다음 동기화는 최대 ID 직전 구간부터 다시 확인
+        // (최대 깊이에서 멈춘 경우에는 구간을 줄이지 않음)
+        if (maxCommentId != null) {
+            syncedCommentId = Math.max(after, maxCommentId - SYNC_OVERLAP);
+        }
+    }
+}
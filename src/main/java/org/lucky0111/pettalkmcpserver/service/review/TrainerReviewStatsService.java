@@ -0,0 +1,117 @@
+package org.lucky0111.pettalkmcpserver.service.review;
+
+import lombok.extern.slf4j.Slf4j;
+import org.lucky0111.pettalkmcpserver.repository.review.ReviewRepository;
+import org.lucky0111.pettalkmcpserver.repository.review.TrainerReviewStatsRepository;
+import org.lucky0111.pettalkmcpserver.service.trainer.TrainerDetailsCache;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * trainer_review_stats 훈련사별 증분 갱신
+ * - 리뷰는 메인 애플리케이션이 쓰므로, 리뷰 수와 최종 수정 시각(reviews.updated_at) 지문을 짧은 주기로 확인
+ * - 지문이 바뀌면 마지막 갱신 이후 리뷰가 수정(등록 포함)된 훈련사의 행만 다시 계산
+ * - 리뷰 수가 줄거나 최종 수정 시각 변화 없이 리뷰 수만 바뀌면(삭제) 해당 훈련사를 알 수 없으므로 전체 재계산
+ * - 같은 주기 안의 삭제와 등록이 겹치는 경우 등 지문으로 찾을 수 없는 차이는 매일 전체 재계산으로 복구
+ */
+@Slf4j
+@Service
+public class TrainerReviewStatsService {
+
+    // 수정 시각 기준 조회 시 다시 확인할 직전 구간 (늦게 커밋된 트랜잭션 대비)
+    private static final Duration MODIFIED_OVERLAP = Duration.ofMinutes(1);
+
+    // 리뷰가 수정된 훈련사가 이보다 많으면 전체 재계산
+    private static final int MAX_INCREMENTAL_TRAINERS = 1000;
+
+    private final ReviewRepository reviewRepository;
+    private final TrainerReviewStatsRepository trainerReviewStatsRepository;
+    private final TrainerDetailsCache trainerDetailsCache;
+    private final TransactionTemplate requiresNewTransaction;
+
+    // 마지막으로 반영한 지문 (리뷰 수, 최종 수정 시각), 아직 갱신 전이면 null
+    private List<Object> syncedFingerprint;
+
+    public TrainerReviewStatsService(ReviewRepository reviewRepository,
+                                     TrainerReviewStatsRepository trainerReviewStatsRepository,
+                                     TrainerDetailsCache trainerDetailsCache,
+                                     PlatformTransactionManager transactionManager) {
+        this.reviewRepository = reviewRepository;
+        this.trainerReviewStatsRepository = trainerReviewStatsRepository;
+        this.trainerDetailsCache = trainerDetailsCache;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 지문이 바뀐 경우에만 리뷰가 수정된 훈련사의 통계 갱신
+     * 시작 직후 첫 실행은 전체 재계산 (최초 배포 등으로 비어 있는 통계 테이블도 채워짐)
+     */
+    @Scheduled(fixedDelayString = "${pettalk.review-stats.check-interval-ms:5000}")
+    public synchronized void refreshChanged() {
+        List<Object> fingerprint = loadFingerprint();
+        List<Object> synced = syncedFingerprint;
+        if (fingerprint.equals(synced)) {
+            return;
+        }
+
+        LocalDateTime syncedUntil = synced == null ? null : (LocalDateTime) synced.get(1);
+        // 리뷰 수가 줄었거나 수정 시각 변화 없이 리뷰 수만 바뀐 경우 (삭제 포함)
+        boolean countOnly = synced != null
+                && ((long) fingerprint.get(0) < (long) synced.get(0) || Objects.equals(fingerprint.get(1), syncedUntil));
+
+        if (syncedUntil == null || countOnly) {
+            rebuildAll();
+        } else {
+            List<UUID> trainerIds = reviewRepository.findTrainerIdsWithReviewsModifiedSince(
+                    syncedUntil.minus(MODIFIED_OVERLAP));
+            if (trainerIds.size() > MAX_INCREMENTAL_TRAINERS) {
+                rebuildAll();
+            } else if (!trainerIds.isEmpty()) {
+                refreshTrainers(trainerIds);
+            }
+        }
+        syncedFingerprint = fingerprint;
+    }
+
+    /**
+     * reviews 테이블 기준 전체 재계산 (지문으로 찾을 수 없는 차이 복구)
+     * 기존 행을 덮어쓰므로 재계산 중에도 통계 조회에 빈 구간이 없음
+     */
+    @Scheduled(cron = "${pettalk.review-stats.rebuild-cron:0 0 4 * * *}")
+    public synchronized void rebuildAll() {
+        long start = System.currentTimeMillis();
+        requiresNewTransaction.executeWithoutResult(status -> {
+            trainerReviewStatsRepository.upsertAllStatsFromReviews();
+            trainerReviewStatsRepository.deleteAllStatsWithoutReviews();
+        });
+        log.info("Trainer review stats rebuilt in {}ms", System.currentTimeMillis() - start);
+        // 재계산 결과가 커밋된 뒤 무효화 (커밋 전 통계가 다시 캐시되는 것 방지)
+        trainerDetailsCache.invalidateAll();
+    }
+
+    private void refreshTrainers(List<UUID> trainerIds) {
+        requiresNewTransaction.executeWithoutResult(status -> {
+            trainerReviewStatsRepository.upsertStatsFromReviews(trainerIds);
+            trainerReviewStatsRepository.deleteStatsWithoutReviews(trainerIds);
+        });
+        log.debug("Trainer review stats refreshed for {} trainers", trainerIds.size());
+        trainerIds.forEach(trainerDetailsCache::invalidate);
+    }
+
+    private List<Object> loadFingerprint() {
+        Object[] stats = reviewRepository.findCountAndLastModified().get(0);
+        // MAX(updatedAt)은 리뷰가 없으면 null
+        return Arrays.asList(((Number) stats[0]).longValue(), stats[1]);
+    }
+}
@@ -0,0 +1,153 @@
+package org.lucky0111.pettalkmcpserver.service.trainer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.lucky0111.pettalkmcpserver.domain.entity.trainer.TrainerArea;
+import org.lucky0111.pettalkmcpserver.index.RegionHierarchy;
+import org.lucky0111.pettalkmcpserver.index.TrainerAreaCatalog;
+import org.lucky0111.pettalkmcpserver.repository.trainer.TrainerAreaRepository;
+import org.lucky0111.pettalkmcpserver.repository.trainer.TrainerRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Trainer.visitingAreas → trainer_areas 동기화
+ * - 이 서버의 Trainer 쓰기는 Trainer.setVisitingAreas에서 즉시 동기화
+ * - 다른 서버(메인 애플리케이션)의 쓰기는 훈련사 수, 최종 수정 시각 지문을 짧은 주기로 확인하여
+ *   마지막 동기화 이후 수정(등록 포함)된 훈련사만 반영 (삭제는 외래 키로 함께 삭제)
+ * - updatedAt을 갱신하지 않는 직접 수정에 대비하여 긴 주기로 전체 비교
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrainerAreaSyncService {
+
+    // 수정 시각 기준 조회 시 다시 확인할 직전 구간 (늦게 커밋된 트랜잭션 대비)
+    private static final Duration MODIFIED_OVERLAP = Duration.ofMinutes(1);
+
+    // 변경된 훈련사가 이보다 많으면 전체 비교
+    private static final int MAX_INCREMENTAL_TRAINERS = 1000;
+
+    private final TrainerRepository trainerRepository;
+    private final TrainerAreaRepository trainerAreaRepository;
+    private final RegionHierarchy regionHierarchy;
+    private final TrainerAreaCatalog trainerAreaCatalog;
+
+    // 마지막으로 반영한 지문 (훈련사 수, 최종 수정 시각), 아직 동기화 전이면 null
+    private volatile List<Object> syncedFingerprint;
+
+    /**
+     * 지문이 바뀐 경우에만 마지막 동기화 이후 수정된 훈련사 반영 (첫 실행은 전체 비교)
+     */
+    @Scheduled(fixedDelayString = "${pettalk.trainer-area.check-interval-ms:5000}")
+    @Transactional
+    public void syncChanged() {
+        List<Object> fingerprint = loadFingerprint();
+        List<Object> synced = syncedFingerprint;
+        if (fingerprint.equals(synced)) {
+            return;
+        }
+
+        LocalDateTime syncedUntil = synced == null ? null : (LocalDateTime) synced.get(1);
+        List<TrainerRepository.TrainerVisitingAreasProjection> trainers = syncedUntil == null
+                ? null
+                : trainerRepository.findVisitingAreasModifiedSince(syncedUntil.minus(MODIFIED_OVERLAP));
+
+        if (trainers == null || trainers.size() > MAX_INCREMENTAL_TRAINERS) {
+            sync(trainerRepository.findAllVisitingAreas(), trainerAreaRepository.findAllTrainerAreaCodes());
+        } else if (!trainers.isEmpty()) {
+            List<UUID> trainerIds = trainers.stream()
+                    .map(TrainerRepository.TrainerVisitingAreasProjection::getTrainerId)
+                    .toList();
+            sync(trainers, trainerAreaRepository.findTrainerAreaCodesByTrainerIdIn(trainerIds));
+        }
+
+        // 훈련사 삭제(지문의 수만 바뀜)도 지역 목록에 반영
+        afterCommit(() -> {
+            syncedFingerprint = fingerprint;
+            regionHierarchy.invalidateKnownAreas();
+            trainerAreaCatalog.invalidate();
+        });
+    }
+
+    /**
+     * 전체 비교 (updatedAt을 갱신하지 않은 수정 보정)
+     */
+    @Scheduled(fixedDelayString = "${pettalk.trainer-area.sync-interval-ms:3600000}",
+            initialDelayString = "${pettalk.trainer-area.sync-interval-ms:3600000}")
+    @Transactional
+    public void syncAll() {
+        if (sync(trainerRepository.findAllVisitingAreas(), trainerAreaRepository.findAllTrainerAreaCodes())) {
+            afterCommit(() -> {
+                regionHierarchy.invalidateKnownAreas();
+                trainerAreaCatalog.invalidate();
+            });
+        }
+    }
+
+    // visitingAreas 기준으로 추가/삭제할 지역 코드만 반영, 변경이 있었는지 반환
+    private boolean sync(List<TrainerRepository.TrainerVisitingAreasProjection> trainers,
+                         List<TrainerAreaRepository.TrainerAreaCodeProjection> storedAreas) {
+        // 1. 현재 저장된 지역 코드
+        Map<UUID, Set<String>> storedAreaCodes = new HashMap<>();
+        for (TrainerAreaRepository.TrainerAreaCodeProjection area : storedAreas) {
+            storedAreaCodes.computeIfAbsent(area.getTrainerId(), k -> new HashSet<>()).add(area.getAreaCode());
+        }
+
+        int inserted = 0;
+        int deleted = 0;
+
+        // 2. visitingAreas 기준으로 추가/삭제할 지역 코드 계산
+        for (TrainerRepository.TrainerVisitingAreasProjection trainer : trainers) {
+            Set<String> expected = TrainerArea.parseAreaCodes(trainer.getVisitingAreas());
+            Set<String> stored = storedAreaCodes.getOrDefault(trainer.getTrainerId(), Collections.emptySet());
+
+            Set<String> toDelete = new HashSet<>(stored);
+            toDelete.removeAll(expected);
+            if (!toDelete.isEmpty()) {
+                trainerAreaRepository.deleteByTrainerIdAndAreaCodeIn(trainer.getTrainerId(), toDelete);
+                deleted += toDelete.size();
+            }
+
+            for (String areaCode : expected) {
+                if (!stored.contains(areaCode)) {
+                    trainerAreaRepository.save(new TrainerArea(trainerRepository.getReferenceById(trainer.getTrainerId()), areaCode));
+                    inserted++;
+                }
+            }
+        }
+
+        if (inserted > 0 || deleted > 0) {
+            log.info("Trainer areas synced: {} inserted, {} deleted", inserted, deleted);
+            return true;
+        }
+        return false;
+    }
+
+    private List<Object> loadFingerprint() {
+        Object[] stats = trainerRepository.findCountAndLastModified().get(0);
+        // MAX(updatedAt)은 훈련사가 없으면 null
+        return Arrays.asList(((Number) stats[0]).longValue(), stats[1]);
+    }
+
+    // 커밋 전에 무효화하면 동시 조회가 커밋 전 데이터로 다시 구성하고 dirty 플래그를 지움
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package org.lucky0111.pettalkmcpserver.service.trainer;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.lucky0111.pettalkmcpserver.domain.entity.match.UserApply;
+import org.lucky0111.pettalkmcpserver.domain.entity.review.Review;
+import org.lucky0111.pettalkmcpserver.domain.entity.trainer.*;
+import org.lucky0111.pettalkmcpserver.domain.entity.user.PetUser;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+/**
+ * 훈련사 프로필 구성 엔티티 변경 시 TrainerDetailsCache 항목 무효화
+ */
+public class TrainerCacheEntityListener {
+
+    private final ObjectProvider<TrainerDetailsCache> trainerDetailsCache;
+
+    public TrainerCacheEntityListener(ObjectProvider<TrainerDetailsCache> trainerDetailsCache) {
+        this.trainerDetailsCache = trainerDetailsCache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        UUID trainerId = resolveTrainerId(entity);
+        if (trainerId != null) {
+            // flush 시점에 무효화하면 동시 조회가 커밋 전 DTO를 다시 캐시하여 TTL 동안 제공하므로 커밋 후 무효화
+            afterCommit(() -> trainerDetailsCache.ifAvailable(cache -> cache.invalidate(trainerId)));
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private UUID resolveTrainerId(Object entity) {
+        if (entity instanceof Trainer trainer) {
+            return trainer.getTrainerId();
+        } else if (entity instanceof PetUser user) {
+            // Trainer ID = PetUser ID (@MapsId)
+            return user.getUserId();
+        } else if (entity instanceof TrainerPhoto photo) {
+            return getTrainerId(photo.getTrainer());
+        } else if (entity instanceof TrainerServiceFee fee) {
+            return getTrainerId(fee.getTrainer());
+        } else if (entity instanceof Certification certification) {
+            return getTrainerId(certification.getTrainer());
+        } else if (entity instanceof TrainerTagRelation relation) {
+            return getTrainerId(relation.getTrainer());
+        } else if (entity instanceof Review review) {
+            UserApply userApply = review.getUserApply();
+            return userApply != null ? getTrainerId(userApply.getTrainer()) : null;
+        }
+        return null;
+    }
+
+    private UUID getTrainerId(Trainer trainer) {
+        return trainer != null ? trainer.getTrainerId() : null;
+    }
+}
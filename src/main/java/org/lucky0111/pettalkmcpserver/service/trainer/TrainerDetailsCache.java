@@ -0,0 +1,105 @@
+package org.lucky0111.pettalkmcpserver.service.trainer;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.lucky0111.pettalkmcpserver.domain.dto.trainer.CertificationDTO;
+import org.lucky0111.pettalkmcpserver.domain.dto.trainer.TrainerDTO;
+import org.lucky0111.pettalkmcpserver.domain.dto.trainer.TrainerPhotoDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 훈련사 ID → TrainerDTO 인프로세스 캐시
+ * - 대략적인 문자 수 기준 가중치로 최대 크기 제한, TTL 이후 만료
+ * - 훈련사 관련 엔티티 변경 시 TrainerCacheEntityListener가 해당 항목 무효화
+ * - 적중률 등 통계는 /actuator/metrics/cache.* (cache=trainerDetails)로 노출
+ */
+@Slf4j
+@Component
+public class TrainerDetailsCache {
+
+    private static final String CACHE_NAME = "trainerDetails";
+
+    private final Cache<UUID, TrainerDTO> cache;
+
+    public TrainerDetailsCache(
+            MeterRegistry meterRegistry,
+            @Value("${pettalk.cache.trainer-details.max-weight:2000000}") long maxWeight,
+            @Value("${pettalk.cache.trainer-details.ttl:10m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((UUID trainerId, TrainerDTO trainerDTO) -> weigh(trainerDTO))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Map<UUID, TrainerDTO> getAllPresent(Collection<UUID> trainerIds) {
+        return cache.getAllPresent(trainerIds);
+    }
+
+    public void putAll(Collection<TrainerDTO> trainerDTOs) {
+        for (TrainerDTO trainerDTO : trainerDTOs) {
+            cache.put(trainerDTO.trainerId(), trainerDTO);
+        }
+    }
+
+    public void invalidate(UUID trainerId) {
+        if (trainerId != null) {
+            cache.invalidate(trainerId);
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    // 캐시 항목 가중치: 문자열 길이 합 (대략적인 메모리 사용량)
+    private static int weigh(TrainerDTO trainerDTO) {
+        long weight = 64
+                + length(trainerDTO.name())
+                + length(trainerDTO.nickname())
+                + length(trainerDTO.profileImageUrl())
+                + length(trainerDTO.email())
+                + length(trainerDTO.title())
+                + length(trainerDTO.introduction())
+                + length(trainerDTO.representativeCareer())
+                + length(trainerDTO.specializationText())
+                + length(trainerDTO.visitingAreas());
+
+        if (trainerDTO.photos() != null) {
+            for (TrainerPhotoDTO photo : trainerDTO.photos()) {
+                weight += 16 + length(photo.fileUrl());
+            }
+        }
+        if (trainerDTO.serviceFees() != null) {
+            weight += 32L * trainerDTO.serviceFees().size();
+        }
+        if (trainerDTO.specializations() != null) {
+            for (String specialization : trainerDTO.specializations()) {
+                weight += 16 + length(specialization);
+            }
+        }
+        if (trainerDTO.certifications() != null) {
+            for (CertificationDTO certification : trainerDTO.certifications()) {
+                weight += 32 + length(certification.certName()) + length(certification.issuingBody());
+            }
+        }
+
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+}
@@ -5,10 +5,15 @@ import org.lucky0111.pettalkmcpserver.domain.dto.trainer.CertificationRequestDTO
 import org.lucky0111.pettalkmcpserver.domain.dto.trainer.TrainerDTO;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 public interface TrainerService {
 
     TrainerDTO getTrainerDetails(String trainerNickname);
 
+    // 여러 훈련사 정보를 고정된 횟수의 쿼리로 조회 (입력 ID 순서 유지)
+    List<TrainerDTO> getTrainerDetails(Collection<UUID> trainerIds);
+
 }
@@ -1,6 +1,7 @@
 package org.lucky0111.pettalkmcpserver.service.trainer;
 
 
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.lucky0111.pettalkmcpserver.domain.dto.review.ReviewStatsDTO;
@@ -9,17 +10,21 @@ import org.lucky0111.pettalkmcpserver.domain.dto.trainer.TrainerDTO;
 import org.lucky0111.pettalkmcpserver.domain.dto.trainer.TrainerPhotoDTO;
 import org.lucky0111.pettalkmcpserver.domain.dto.trainer.TrainerServiceFeeDTO;
 import org.lucky0111.pettalkmcpserver.domain.entity.common.Tag;
+import org.lucky0111.pettalkmcpserver.domain.entity.review.TrainerReviewStats;
 import org.lucky0111.pettalkmcpserver.domain.entity.trainer.*;
 import org.lucky0111.pettalkmcpserver.domain.entity.user.PetUser;
 import org.lucky0111.pettalkmcpserver.exception.CustomException;
 import org.lucky0111.pettalkmcpserver.repository.common.TagRepository;
 import org.lucky0111.pettalkmcpserver.repository.review.ReviewRepository;
+import org.lucky0111.pettalkmcpserver.repository.review.TrainerReviewStatsRepository;
 import org.lucky0111.pettalkmcpserver.repository.trainer.*;
 import org.lucky0111.pettalkmcpserver.repository.user.PetUserRepository;
+import org.lucky0111.pettalkmcpserver.service.common.ParallelQueryRunner;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -34,38 +39,85 @@ public class TrainerServiceImpl implements TrainerService {
     private final TrainerTagRepository trainerTagRepository;
     private final TagRepository tagRepository;
     private final ReviewRepository reviewRepository;
+    private final TrainerReviewStatsRepository trainerReviewStatsRepository;
 //    private final FileUploaderService fileUploaderService;
     private final TrainerPhotoRepository trainerPhotoRepository;
     private final TrainerServiceFeeRepository trainerServiceFeeRepository;
+    private final TrainerDetailsCache trainerDetailsCache;
+    private final ParallelQueryRunner parallelQueryRunner;
 
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public TrainerDTO getTrainerDetails(String trainerNickname) {
         // 1. Trainer 엔티티 조회 (ID는 UUID)
         Trainer trainer = trainerRepository.findByUser_Nickname(trainerNickname)
                 .orElseThrow(() -> new CustomException("훈련사 정보를 찾을 수 없습니다 ID: %s".formatted(trainerNickname), HttpStatus.NOT_FOUND));
 
-        Set<TrainerPhoto> photos = trainer.getPhotos();
-        Set<TrainerServiceFee> serviceFees = trainer.getServiceFees();
+        return getTrainerDetails(List.of(trainer.getTrainerId())).get(0);
+    }
 
-        List<String> specializationNames = getSpecializationNames(trainer.getTrainerId());
-        List<CertificationDTO> certificationDtoList = getCertificationDTOList(trainer.getTrainerId());
+    @Override
+    // 각 쿼리가 자체 트랜잭션으로 실행되므로, 대기 중인 호출 스레드는 커넥션을 점유하지 않음
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public List<TrainerDTO> getTrainerDetails(Collection<UUID> trainerIds) {
+        if (trainerIds == null || trainerIds.isEmpty()) {
+            return Collections.emptyList();
+        }
 
-        List<TrainerPhotoDTO> photoDTOs = getPhotosDTO(photos);
-        List<TrainerServiceFeeDTO> serviceFeeDTOs = getServiceFeesDTO(serviceFees);
+        // 중복 제거 및 입력 순서 유지
+        List<UUID> requestedIds = new ArrayList<>(new LinkedHashSet<>(trainerIds));
 
+        // 캐시에 있는 훈련사는 제외하고 나머지만 조회
+        Map<UUID, TrainerDTO> cached = trainerDetailsCache.getAllPresent(requestedIds);
+        List<UUID> ids = requestedIds.stream()
+                .filter(trainerId -> !cached.containsKey(trainerId))
+                .toList();
 
-        ReviewStatsDTO reviewStatsDTO = getReviewStatsDTO(trainer.getTrainerId());
+        if (ids.isEmpty()) {
+            return requestedIds.stream().map(cached::get).toList();
+        }
 
-        return convertToTrainerDTO(
-                trainer,
-                photoDTOs,
-                serviceFeeDTOs,
-                specializationNames,
-                certificationDtoList,
-                reviewStatsDTO
-        );
+        // 1. Trainer + PetUser, 사진, 요금, 태그, 자격증, 리뷰 통계 일괄 조회
+        // 훈련사 수와 무관하게 쿼리 수 고정, 서로 독립적인 쿼리이므로 동시에 실행
+        ParallelQueryRunner.Call call = parallelQueryRunner.newCall();
+        Supplier<Map<UUID, Trainer>> trainers = call.fork(() -> trainerRepository.findAllWithUserByTrainerIdIn(ids).stream()
+                .collect(Collectors.toMap(Trainer::getTrainerId, trainer -> trainer)));
+        Supplier<Map<UUID, List<TrainerPhotoDTO>>> photos = call.fork(() -> getPhotoMapForTrainers(ids));
+        Supplier<Map<UUID, List<TrainerServiceFeeDTO>>> serviceFees = call.fork(() -> getServiceFeeMapForTrainers(ids));
+        Supplier<Map<UUID, List<String>>> specializations = call.fork(() -> getSpecializationMapForTrainers(ids));
+        Supplier<Map<UUID, List<CertificationDTO>>> certifications = call.fork(() -> getCertificationMapForTrainers(ids));
+        Supplier<Map<UUID, ReviewStatsDTO>> reviewStats = call.fork(() -> getReviewStatsMapForTrainers(ids));
+        call.join();
+
+        Map<UUID, Trainer> trainerMap = trainers.get();
+        Map<UUID, List<TrainerPhotoDTO>> photoMap = photos.get();
+        Map<UUID, List<TrainerServiceFeeDTO>> serviceFeeMap = serviceFees.get();
+        Map<UUID, List<String>> specializationMap = specializations.get();
+        Map<UUID, List<CertificationDTO>> certificationMap = certifications.get();
+        Map<UUID, ReviewStatsDTO> reviewStatsMap = reviewStats.get();
+
+        // 2. TrainerDTO 조립 후 캐시에 저장
+        List<TrainerDTO> loaded = ids.stream()
+                .filter(trainerMap::containsKey)
+                .map(trainerId -> convertToTrainerDTO(
+                        trainerMap.get(trainerId),
+                        photoMap.getOrDefault(trainerId, Collections.emptyList()),
+                        serviceFeeMap.getOrDefault(trainerId, Collections.emptyList()),
+                        specializationMap.getOrDefault(trainerId, Collections.emptyList()),
+                        certificationMap.getOrDefault(trainerId, Collections.emptyList()),
+                        reviewStatsMap.get(trainerId)
+                ))
+                .toList();
+        trainerDetailsCache.putAll(loaded);
+
+        // 3. 입력 순서대로 반환 (존재하지 않는 ID는 제외)
+        Map<UUID, TrainerDTO> result = new HashMap<>(cached);
+        loaded.forEach(trainerDTO -> result.put(trainerDTO.trainerId(), trainerDTO));
+        return requestedIds.stream()
+                .filter(result::containsKey)
+                .map(result::get)
+                .toList();
     }
 
     private TrainerDTO convertToTrainerDTO(
@@ -118,84 +170,38 @@ public class TrainerServiceImpl implements TrainerService {
                 ));
     }
 
-//    // 여러 트레이너의 리뷰 통계를 한 번에 조회
-//    private Map<UUID, ReviewStatsDTO> getReviewStatsMapForTrainers(List<UUID> trainerIds) {
-//        // 트레이너 ID 목록으로 평균 평점 조회
-//        Map<UUID, Double> avgRatings = reviewRepository.findAverageRatingsByTrainerIds(trainerIds);
-//
-//        // 트레이너 ID 목록으로 리뷰 개수 조회
-//        Map<UUID, Long> reviewCounts = reviewRepository.countReviewsByTrainerIds(trainerIds);
-//
-//        // 결과 맵 생성
-//        Map<UUID, ReviewStatsDTO> result = new HashMap<>();
-//        for (UUID trainerId : trainerIds) {
-//            Double avgRating = avgRatings.getOrDefault(trainerId, 0.0);
-//            Long reviewCount = reviewCounts.getOrDefault(trainerId, 0L);
-//            result.put(trainerId, new ReviewStatsDTO(avgRating, reviewCount));
-//        }
-//
-//        return result;
-//    }
-
-//    // TrainerDTO 변환 메서드 분리
-//    private TrainerDTO convertToTrainerDTO(
-//            Trainer trainer,
-//            List<TrainerPhotoDTO> photoDTOs,
-//            List<TrainerServiceFeeDTO> serviceFeeDTOs,
-//            List<String> specializationNames,
-//            List<CertificationDTO> certificationDtoList,
-//            ReviewStatsDTO reviewStatsDTO) {
-//
-//        PetUser user = trainer.getUser();
-//
-//        return new TrainerDTO(
-//                trainer.getTrainerId(),
-//                user != null ? user.getName() : null,
-//                user != null ? user.getNickname() : null,
-//                user != null ? user.getProfileImageUrl() : null,
-//                user != null ? user.getEmail() : null,
-//                trainer.getTitle(),
-//                trainer.getIntroduction(),
-//                trainer.getRepresentativeCareer(),
-//                trainer.getSpecializationText(),
-//                trainer.getVisitingAreas(),
-//                trainer.getExperienceYears() != null ? trainer.getExperienceYears() : 0,
-//                photoDTOs,
-//                serviceFeeDTOs,
-//                specializationNames,
-//                certificationDtoList,
-//                reviewStatsDTO.averageRating(),
-//                reviewStatsDTO.reviewCount()
-//        );
-//    }
-    private List<CertificationDTO> getCertificationDTOList(UUID trainerId){
-        List<Certification> certifications = certificationRepository.findByTrainer_TrainerId(trainerId);
-
-        return certifications.stream()
-                .map(CertificationDTO::fromEntity)
-                .toList();
+    // 여러 트레이너의 리뷰 통계를 한 번에 조회 (trainer_review_stats 기본키 조회)
+    private Map<UUID, ReviewStatsDTO> getReviewStatsMapForTrainers(List<UUID> trainerIds) {
+        Map<UUID, ReviewStatsDTO> result = new HashMap<>();
+        for (TrainerReviewStats stats : trainerReviewStatsRepository.findAllById(trainerIds)) {
+            result.put(stats.getTrainerId(), new ReviewStatsDTO(stats.getAverageRating(), stats.getReviewCount()));
+        }
+
+        // 리뷰가 없는 훈련사는 0으로 채움
+        for (UUID trainerId : trainerIds) {
+            result.putIfAbsent(trainerId, new ReviewStatsDTO(0.0, 0L));
+        }
+
+        return result;
     }
 
-    // 4. 전문 분야(태그) 목록 조회 (Trainer ID는 UUID)
-    private List<String> getSpecializationNames(UUID trainerId){
-        List<TrainerTagRelation> trainerTags = trainerTagRepository.findByTrainer_TrainerId(trainerId);
-        return trainerTags.stream()
-                .map(TrainerTagRelation::getTag) // TrainerTag 엔티티에서 Tag 엔티티를 가져옴 (관계 매핑 필요)
-                .map(Tag::getTagName) // Tag 엔티티에서 태그 이름을 가져옴
-                .toList();
+    private Map<UUID, List<TrainerPhotoDTO>> getPhotoMapForTrainers(List<UUID> trainerIds) {
+        return trainerPhotoRepository.findAllByTrainer_TrainerIdIn(trainerIds).stream()
+                .collect(Collectors.groupingBy(
+                        photo -> photo.getTrainer().getTrainerId(),
+                        Collectors.collectingAndThen(Collectors.toList(), this::getPhotosDTO)
+                ));
     }
-    // 5. 평점 및 후기 개수 조회 (ReviewRepository 사용, 인자 타입 UUID)
-    private ReviewStatsDTO getReviewStatsDTO(UUID trainerId){
-        Double averageRating = reviewRepository.findAverageRatingByTrainerId(trainerId);
-        Long reviewCount = reviewRepository.countByReviewedTrainerId(trainerId);
-
-        return new ReviewStatsDTO(
-                averageRating != null ? averageRating : 0.0, // 평균 평점 (NULL일 경우 0.0)
-                reviewCount != null ? reviewCount : 0L  // 후기 개수 (NULL일 경우 0));
-        );
+
+    private Map<UUID, List<TrainerServiceFeeDTO>> getServiceFeeMapForTrainers(List<UUID> trainerIds) {
+        return trainerServiceFeeRepository.findAllByTrainer_TrainerIdIn(trainerIds).stream()
+                .collect(Collectors.groupingBy(
+                        fee -> fee.getTrainer().getTrainerId(),
+                        Collectors.collectingAndThen(Collectors.toList(), this::getServiceFeesDTO)
+                ));
     }
 
-    private List<TrainerPhotoDTO> getPhotosDTO(Set<TrainerPhoto> photos) {
+    private List<TrainerPhotoDTO> getPhotosDTO(Collection<TrainerPhoto> photos) {
         if (photos == null || photos.isEmpty()) {
             return Collections.emptyList();
         }
@@ -208,7 +214,7 @@ public class TrainerServiceImpl implements TrainerService {
                 .collect(Collectors.toList());
     }
 
-    private List<TrainerServiceFeeDTO> getServiceFeesDTO(Set<TrainerServiceFee> serviceFees) {
+    private List<TrainerServiceFeeDTO> getServiceFeesDTO(Collection<TrainerServiceFee> serviceFees) {
         if (serviceFees == null || serviceFees.isEmpty()) {
             return Collections.emptyList();
         }
@@ -0,0 +1,12 @@
+-- 댓글 트리 클로저 테이블 (조상 댓글 → 자손 댓글, 자기 자신은 depth 0)
+-- 댓글은 메인 애플리케이션이 등록하므로 CommentTreeService가 주기적으로(기본 10초) 새 댓글의 행을 추가
+-- 댓글 삭제 시 외래 키로 함께 삭제
+CREATE TABLE IF NOT EXISTS comment_closure (
+    ancestor_id   BIGINT NOT NULL,
+    descendant_id BIGINT NOT NULL,
+    depth         INT    NOT NULL,
+    PRIMARY KEY (ancestor_id, descendant_id),
+    KEY idx_comment_closure_descendant (descendant_id, ancestor_id),
+    CONSTRAINT fk_comment_closure_ancestor FOREIGN KEY (ancestor_id) REFERENCES comments (comment_id) ON DELETE CASCADE,
+    CONSTRAINT fk_comment_closure_descendant FOREIGN KEY (descendant_id) REFERENCES comments (comment_id) ON DELETE CASCADE
+);
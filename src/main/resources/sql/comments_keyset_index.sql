@@ -0,0 +1,5 @@
+-- 댓글/답글 키셋 페이지 조회용 복합 인덱스 (CommentServiceImpl.getPostComments)
+-- 게시글의 최상위 댓글: WHERE post_id = ? AND parent_comment_id IS NULL AND comment_id > ? ORDER BY comment_id
+CREATE INDEX idx_comment_post_parent_id ON comments (post_id, parent_comment_id, comment_id);
+-- 답글: WHERE parent_comment_id = ? AND comment_id > ? ORDER BY comment_id
+CREATE INDEX idx_comment_parent_id ON comments (parent_comment_id, comment_id);
@@ -0,0 +1,4 @@
+-- 게시글 제목/내용 한국어 키워드 검색용 FULLTEXT 인덱스 (ngram 파서, 기본 토큰 크기 2)
+-- ChatServiceImpl.searchPosts → PostRepository.searchByKeyword 에서 MATCH ... AGAINST 로 사용
+ALTER TABLE posts
+    ADD FULLTEXT INDEX ft_post_title_content (title, content) WITH PARSER ngram;
@@ -0,0 +1,15 @@
+-- 훈련사 방문 가능 지역 정규화 테이블 (Trainer.visitingAreas → trainer_areas)
+-- 데이터는 TrainerAreaSyncService가 시작 시 채우고, 훈련사 수/최종 수정 시각이 바뀌면 수정된 훈련사만 동기화
+-- 적용 방법은 sql/README.md 참고 (ddl-auto: none 이므로 애플리케이션이 생성하지 않음)
+CREATE TABLE IF NOT EXISTS trainer_areas (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    trainer_id BINARY(16)  NOT NULL,
+    area_code  VARCHAR(50) NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_trainer_area (trainer_id, area_code),
+    KEY idx_trainer_area_code (area_code, trainer_id),
+    CONSTRAINT fk_trainer_area_trainer FOREIGN KEY (trainer_id) REFERENCES trainers (trainer_id) ON DELETE CASCADE
+);
+
+-- 변경 감지(MAX(updated_at)) 및 수정된 훈련사 조회 (WHERE updated_at >= ?)
+CREATE INDEX idx_trainer_updated_at ON trainers (updated_at);
@@ -0,0 +1,16 @@
+-- 훈련사별 리뷰 통계 읽기 모델 (reviews → user_applies → trainers 집계)
+-- TrainerReviewStatsService가 리뷰가 수정된 훈련사의 행만 다시 계산, 매일 전체 재계산
+CREATE TABLE IF NOT EXISTS trainer_review_stats (
+    trainer_id   BINARY(16) NOT NULL,
+    review_count BIGINT     NOT NULL DEFAULT 0,
+    rating_sum   BIGINT     NOT NULL DEFAULT 0,
+    rating_1     BIGINT     NOT NULL DEFAULT 0,
+    rating_2     BIGINT     NOT NULL DEFAULT 0,
+    rating_3     BIGINT     NOT NULL DEFAULT 0,
+    rating_4     BIGINT     NOT NULL DEFAULT 0,
+    rating_5     BIGINT     NOT NULL DEFAULT 0,
+    PRIMARY KEY (trainer_id)
+);
+
+-- 변경 감지(MAX(updated_at)) 및 리뷰가 수정된 훈련사 조회 (WHERE updated_at >= ?)
+CREATE INDEX idx_review_updated_at ON reviews (updated_at);
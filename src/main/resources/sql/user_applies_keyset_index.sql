@@ -0,0 +1,6 @@
+-- 훈련사 신청서 목록 키셋 페이지 조회용 복합 인덱스 (ApplyServiceImpl.getTrainerApplies)
+-- 기존 idx_user_trainer_status (user_id, trainer_id, status)는 user_id가 선두 컬럼이라 훈련사 기준 조회에 사용되지 않음
+-- 전체: WHERE trainer_id = ? AND (created_at, apply_id) < (?, ?) ORDER BY created_at DESC, apply_id DESC
+CREATE INDEX idx_user_apply_trainer_created ON user_applies (trainer_id, created_at, apply_id);
+-- 상태별: WHERE trainer_id = ? AND status = ? AND (created_at, apply_id) < (?, ?) ORDER BY created_at DESC, apply_id DESC
+CREATE INDEX idx_user_apply_trainer_status_created ON user_applies (trainer_id, status, created_at, apply_id);
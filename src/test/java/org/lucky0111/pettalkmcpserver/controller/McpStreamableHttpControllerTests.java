@@ -0,0 +1,236 @@
+package org.lucky0111.pettalkmcpserver.controller;
+
+import org.junit.jupiter.api.Test;
+import org.lucky0111.pettalkmcpserver.config.McpToolRegistry;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.function.Function;
+
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Streamable HTTP MCP 엔드포인트 JSON-RPC 처리 (웹 계층만, 도구는 테스트용 도구로 대체)
+ * - ASYNC 모드처럼 도구 실행 전용 스케줄러를 등록하고, 다른 Scheduler 빈이 함께 있어도 전용 스케줄러에서 실행되는지 확인
+ */
+@WebMvcTest(McpStreamableHttpController.class)
+class McpStreamableHttpControllerTests {
+
+    private static final String TOOL_THREAD_PREFIX = "mcp-tool-test";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @TestConfiguration
+    static class TestToolConfig {
+
+        @Bean
+        McpToolRegistry mcpToolRegistry() {
+            return new McpToolRegistry(new ToolCallback[]{
+                    tool("echo", toolInput -> Thread.currentThread().getName() + " " + toolInput),
+                    tool("fail", toolInput -> {
+                        throw new IllegalStateException();
+                    })
+            });
+        }
+
+        @Bean
+        Scheduler mcpToolScheduler() {
+            return Schedulers.newBoundedElastic(2, 10, TOOL_THREAD_PREFIX);
+        }
+
+        // 도구 실행 전용이 아닌 Scheduler 빈 (이 빈이 선택되면 요청 스레드에서 실행됨)
+        @Bean
+        Scheduler otherScheduler() {
+            return Schedulers.immediate();
+        }
+
+        private static ToolCallback tool(String name, Function<String, String> call) {
+            return new ToolCallback() {
+                @Override
+                public ToolDefinition getToolDefinition() {
+                    return ToolDefinition.builder()
+                            .name(name)
+                            .description(name + " 테스트 도구")
+                            .inputSchema("{\"type\": \"object\"}")
+                            .build();
+                }
+
+                @Override
+                public String call(String toolInput) {
+                    return call.apply(toolInput);
+                }
+            };
+        }
+    }
+
+    @Test
+    void initializeEchoesSupportedProtocolVersion() throws Exception {
+        postMessage("""
+                {"jsonrpc": "2.0", "id": 1, "method": "initialize", "params": {"protocolVersion": "2025-03-26"}}
+                """)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$.result.protocolVersion").value("2025-03-26"))
+                .andExpect(jsonPath("$.result.capabilities.tools.listChanged").value(false))
+                .andExpect(jsonPath("$.result.serverInfo.name").value("pet-talk-mcp-server"));
+    }
+
+    @Test
+    void initializeFallsBackToLatestProtocolVersion() throws Exception {
+        postMessage("""
+                {"jsonrpc": "2.0", "id": "init", "method": "initialize", "params": {"protocolVersion": "2024-11-05"}}
+                """)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value("init"))
+                .andExpect(jsonPath("$.result.protocolVersion").value("2025-06-18"));
+    }
+
+    @Test
+    void ping() throws Exception {
+        postMessage("""
+                {"jsonrpc": "2.0", "id": 2, "method": "ping"}
+                """)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(2))
+                .andExpect(jsonPath("$.result").isEmpty());
+    }
+
+    @Test
+    void listsTools() throws Exception {
+        postMessage("""
+                {"jsonrpc": "2.0", "id": 3, "method": "tools/list"}
+                """)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.tools", hasSize(2)))
+                .andExpect(jsonPath("$.result.tools[0].name").value("echo"))
+                .andExpect(jsonPath("$.result.tools[0].inputSchema.type").value("object"));
+    }
+
+    @Test
+    void callsToolOnToolScheduler() throws Exception {
+        postMessage("""
+                {"jsonrpc": "2.0", "id": 4, "method": "tools/call", "params": {"name": "echo", "arguments": {"q": "hi"}}}
+                """)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.isError").value(false))
+                .andExpect(jsonPath("$.result.content[0].type").value("text"))
+                .andExpect(jsonPath("$.result.content[0].text", startsWith(TOOL_THREAD_PREFIX)))
+                .andExpect(jsonPath("$.result.content[0].text").value(endsWith("{\"q\":\"hi\"}")));
+    }
+
+    @Test
+    void toolFailureIsErrorResultWithExceptionName() throws Exception {
+        postMessage("""
+                {"jsonrpc": "2.0", "id": 5, "method": "tools/call", "params": {"name": "fail"}}
+                """)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.error").doesNotExist())
+                .andExpect(jsonPath("$.result.isError").value(true))
+                .andExpect(jsonPath("$.result.content[0].text").value(IllegalStateException.class.getName()));
+    }
+
+    @Test
+    void unknownToolIsInvalidParams() throws Exception {
+        postMessage("""
+                {"jsonrpc": "2.0", "id": 6, "method": "tools/call", "params": {"name": "missing"}}
+                """)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.error.code").value(-32602));
+    }
+
+    @Test
+    void unknownMethodIsMethodNotFound() throws Exception {
+        postMessage("""
+                {"jsonrpc": "2.0", "id": 7, "method": "resources/list"}
+                """)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(7))
+                .andExpect(jsonPath("$.error.code").value(-32601));
+    }
+
+    @Test
+    void missingMethodIsInvalidRequest() throws Exception {
+        postMessage("""
+                {"jsonrpc": "2.0", "id": 8}
+                """)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.error.code").value(-32600));
+    }
+
+    @Test
+    void notificationIsAccepted() throws Exception {
+        postMessage("""
+                {"jsonrpc": "2.0", "method": "notifications/initialized"}
+                """)
+                .andExpect(status().isAccepted())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void batchRespondsToRequestsOnly() throws Exception {
+        postMessage("""
+                [
+                  {"jsonrpc": "2.0", "method": "notifications/initialized"},
+                  {"jsonrpc": "2.0", "id": 9, "method": "ping"}
+                ]
+                """)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").value(9));
+    }
+
+    @Test
+    void batchOfNotificationsIsAccepted() throws Exception {
+        postMessage("""
+                [
+                  {"jsonrpc": "2.0", "method": "notifications/initialized"},
+                  {"jsonrpc": "2.0", "method": "notifications/cancelled", "params": {"requestId": 1}}
+                ]
+                """)
+                .andExpect(status().isAccepted());
+    }
+
+    @Test
+    void getAndDeleteAreNotAllowed() throws Exception {
+        mockMvc.perform(get("/mcp"))
+                .andExpect(status().isMethodNotAllowed())
+                .andExpect(header().string(HttpHeaders.ALLOW, "POST"));
+        mockMvc.perform(delete("/mcp"))
+                .andExpect(status().isMethodNotAllowed())
+                .andExpect(header().string(HttpHeaders.ALLOW, "POST"));
+    }
+
+    // POST 응답은 Mono이므로 비동기 처리 완료 후 결과 확인
+    private ResultActions postMessage(String body) throws Exception {
+        MvcResult result = mockMvc.perform(post("/mcp")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+}
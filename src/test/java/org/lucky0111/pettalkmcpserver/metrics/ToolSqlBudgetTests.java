@@ -0,0 +1,271 @@
+package org.lucky0111.pettalkmcpserver.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.lucky0111.pettalkmcpserver.config.McpToolRegistry;
+import org.lucky0111.pettalkmcpserver.domain.common.ApplyStatus;
+import org.lucky0111.pettalkmcpserver.domain.common.PetCategory;
+import org.lucky0111.pettalkmcpserver.domain.common.PostCategory;
+import org.lucky0111.pettalkmcpserver.domain.common.ServiceType;
+import org.lucky0111.pettalkmcpserver.domain.common.UserRole;
+import org.lucky0111.pettalkmcpserver.domain.entity.common.Tag;
+import org.lucky0111.pettalkmcpserver.domain.entity.community.Post;
+import org.lucky0111.pettalkmcpserver.domain.entity.community.PostTagRelation;
+import org.lucky0111.pettalkmcpserver.domain.entity.match.UserApply;
+import org.lucky0111.pettalkmcpserver.domain.entity.review.Review;
+import org.lucky0111.pettalkmcpserver.domain.entity.trainer.Certification;
+import org.lucky0111.pettalkmcpserver.domain.entity.trainer.Trainer;
+import org.lucky0111.pettalkmcpserver.domain.entity.trainer.TrainerPhoto;
+import org.lucky0111.pettalkmcpserver.domain.entity.trainer.TrainerServiceFee;
+import org.lucky0111.pettalkmcpserver.domain.entity.trainer.TrainerTagRelation;
+import org.lucky0111.pettalkmcpserver.domain.entity.user.PetUser;
+import org.lucky0111.pettalkmcpserver.exception.CustomException;
+import org.lucky0111.pettalkmcpserver.repository.community.PostRepository;
+import org.lucky0111.pettalkmcpserver.service.community.CommentTreeService;
+import org.lucky0111.pettalkmcpserver.service.review.TrainerReviewStatsService;
+import org.lucky0111.pettalkmcpserver.service.trainer.TrainerAreaSyncService;
+import org.lucky0111.pettalkmcpserver.service.trainer.TrainerDetailsCache;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 도구별 @SqlBudget 검사 (내장 DB, pettalk.sql-budget.mode=FAIL)
+ * - 인메모리 인덱스를 구성한 뒤(첫 호출) 훈련사 캐시를 비우고 다시 호출했을 때의 SQL 문 수를 측정
+ * - 예산을 넘으면 도구 호출 자체가 실패하고, 예산 이하인지 한 번 더 확인
+ * - 읽기 모델 테이블(trainer_areas, trainer_review_stats, comment_closure)은 실제 동기화 작업으로 채움 (대체 빈 없음)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ToolSqlBudgetTests {
+
+    private static final String TRAINER_NAME = "김훈련";
+    private static final String TAG_NAME = "배변훈련";
+    private static final String POST_TITLE = "배변훈련 성공 후기";
+
+    @Autowired
+    private TrainerAreaSyncService trainerAreaSyncService;
+
+    @Autowired
+    private TrainerReviewStatsService trainerReviewStatsService;
+
+    @Autowired
+    private CommentTreeService commentTreeService;
+
+    @Autowired
+    private McpToolRegistry mcpToolRegistry;
+
+    @Autowired
+    private ToolMetrics toolMetrics;
+
+    @Autowired
+    private TrainerDetailsCache trainerDetailsCache;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Long postId;
+
+    @BeforeAll
+    void setUp() {
+        postId = transactionTemplate.execute(status -> {
+            Tag tag = new Tag();
+            ReflectionTestUtils.setField(tag, "tagName", TAG_NAME);
+            entityManager.persist(tag);
+
+            PetUser user = new PetUser();
+            user.setName(TRAINER_NAME);
+            user.setNickname(TRAINER_NAME);
+            user.setEmail("trainer@pettalk.test");
+            user.setRole(UserRole.TRAINER);
+            entityManager.persist(user);
+
+            Trainer trainer = new Trainer();
+            trainer.setUser(user);
+            trainer.setTitle("반려견 행동 교정 전문가");
+            trainer.setIntroduction("배변 문제와 분리불안 교정을 주로 합니다.");
+            trainer.setVisitingAreas("강남");
+
+            TrainerPhoto photo = new TrainerPhoto();
+            photo.setFileUrl("https://pettalk.test/trainer.jpg");
+            photo.setPhotoOrder(1);
+            trainer.addPhoto(photo);
+
+            TrainerServiceFee fee = new TrainerServiceFee();
+            fee.setServiceType(ServiceType.VISIT_TRAINING);
+            fee.setDurationMinutes(60);
+            fee.setFeeAmount(new BigDecimal("50000"));
+            trainer.addServiceFee(fee);
+
+            Certification certification = new Certification();
+            certification.setCertName("반려동물행동교정사");
+            certification.setIssuingBody("한국애견협회");
+            certification.setIssueDate(LocalDate.of(2020, 1, 1));
+            trainer.addCertification(certification);
+            entityManager.persist(trainer);
+
+            TrainerTagRelation trainerTag = new TrainerTagRelation();
+            ReflectionTestUtils.setField(trainerTag, "tag", tag);
+            ReflectionTestUtils.setField(trainerTag, "trainer", trainer);
+            entityManager.persist(trainerTag);
+
+            Post post = new Post();
+            post.setPostCategory(PostCategory.FREE);
+            post.setPetCategory(PetCategory.DOG);
+            post.setUser(user);
+            post.setTitle(POST_TITLE);
+            post.setContent("배변패드 위치를 고정하고 칭찬해주니 일주일 만에 성공했어요.");
+            entityManager.persist(post);
+
+            PostTagRelation postTag = new PostTagRelation();
+            postTag.setTag(tag);
+            postTag.setPost(post);
+            entityManager.persist(postTag);
+
+            PetUser applicant = new PetUser();
+            applicant.setName("리뷰작성자");
+            applicant.setNickname("리뷰작성자");
+            applicant.setEmail("reviewer@pettalk.test");
+            applicant.setRole(UserRole.USER);
+            entityManager.persist(applicant);
+
+            UserApply apply = new UserApply();
+            apply.setPetUser(applicant);
+            apply.setTrainer(trainer);
+            apply.setServiceType(ServiceType.VISIT_TRAINING);
+            apply.setPetType("강아지");
+            apply.setPetBreed("말티즈");
+            apply.setPetMonthAge(12);
+            apply.setContent("배변 훈련 신청");
+            apply.setApplyStatus(ApplyStatus.APPROVED);
+            entityManager.persist(apply);
+
+            Review review = new Review();
+            review.setUserApply(apply);
+            review.setRating(5);
+            review.setTitle("배변 훈련 후기");
+            review.setComment("일주일 만에 배변을 가리게 되었어요.");
+            entityManager.persist(review);
+
+            return post.getPostId();
+        });
+
+        // 스케줄러가 실행하는 동기화 작업을 한 번씩 실행 (읽기 모델 테이블 채움)
+        trainerAreaSyncService.syncChanged();
+        trainerReviewStatsService.refreshChanged();
+        commentTreeService.sync();
+    }
+
+    @Test
+    void getTrainerInfoWithinBudget() {
+        String result = assertWithinBudget("getTrainerInfo",
+                "{\"tags\": [\"" + TAG_NAME + "\"], \"areas\": [\"강남\"]}", 1);
+
+        assertThat(result).contains(TRAINER_NAME);
+    }
+
+    @Test
+    void getTrainerDetailsByNameWithinBudget() {
+        String result = assertWithinBudget("getTrainerDetailsByName",
+                "{\"name\": \"" + TRAINER_NAME + "\"}", 1);
+
+        assertThat(result).contains(TRAINER_NAME);
+        // 통계 재계산 작업이 채운 trainer_review_stats 반영
+        assertThat(result).contains("\"reviewCount\":1");
+    }
+
+    @Test
+    void getPostInfoWithinBudget() {
+        String result = assertWithinBudget("getPostInfo",
+                "{\"tags\": [\"" + TAG_NAME + "\"]}", 2);
+
+        assertThat(result).contains(POST_TITLE);
+    }
+
+    @Test
+    void getTrainerAreasWithinBudget() {
+        String result = assertWithinBudget("getTrainerAreas", "{}", 0);
+
+        assertThat(result).contains("강남");
+    }
+
+    @Test
+    void getTagsInDBWithinBudget() {
+        String result = assertWithinBudget("getTagsInDB", "{}", 0);
+
+        assertThat(result).contains(TAG_NAME);
+    }
+
+    @Test
+    void failsWhenBudgetExceeded() {
+        ToolCallback probe = new ToolCallback() {
+            @Override
+            public ToolDefinition getToolDefinition() {
+                return ToolDefinition.builder()
+                        .name("sqlBudgetProbe")
+                        .description("SQL 예산 초과 확인용")
+                        .inputSchema("{\"type\": \"object\"}")
+                        .build();
+            }
+
+            @Override
+            public String call(String toolInput) {
+                return transactionTemplate.execute(status ->
+                        String.valueOf(postRepository.findSummariesByPostIdIn(List.of(postId)).size()));
+            }
+        };
+
+        // 공유 지표(Spring 빈)에 시험용 도구가 남지 않도록 별도 레지스트리 사용
+        ToolMetrics probeMetrics = new ToolMetrics(new SimpleMeterRegistry(), new ObjectMapper(), SqlBudgetMode.FAIL, true);
+        ToolCallback instrumented = probeMetrics.instrument(probe, 0);
+
+        assertThatThrownBy(() -> instrumented.call("{}"))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining("sqlBudgetProbe");
+        assertThat(probeMetrics.snapshot("sqlBudgetProbe"))
+                .singleElement()
+                .satisfies(metrics -> assertThat(metrics.sqlBudgetExceeded()).isEqualTo(1));
+    }
+
+    // 인메모리 인덱스 구성 후 (훈련사 캐시는 비운 상태로) 다시 호출한 SQL 문 수가 예산 이하인지 확인
+    private String assertWithinBudget(String toolName, String toolInput, int minStatements) {
+        Integer sqlBudget = toolMetrics.sqlBudget(toolName);
+        assertThat(sqlBudget).as("@SqlBudget of %s", toolName).isNotNull();
+
+        ToolCallback tool = mcpToolRegistry.find(toolName).orElseThrow();
+        tool.call(toolInput);
+        trainerDetailsCache.invalidateAll();
+
+        try (SqlStatementCounter.Scope sqlStatements = SqlStatementCounter.open()) {
+            String result = tool.call(toolInput);
+
+            assertThat(sqlStatements.count())
+                    .as("SQL statements of %s: %s", toolName, sqlStatements.topFingerprints(10))
+                    .isBetween(minStatements, sqlBudget);
+            return result;
+        }
+    }
+}
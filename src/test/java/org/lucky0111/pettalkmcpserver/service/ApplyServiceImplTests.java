@@ -0,0 +1,173 @@
+package org.lucky0111.pettalkmcpserver.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.lucky0111.pettalkmcpserver.config.McpToolRegistry;
+import org.lucky0111.pettalkmcpserver.domain.common.ApplyStatus;
+import org.lucky0111.pettalkmcpserver.domain.common.ServiceType;
+import org.lucky0111.pettalkmcpserver.domain.common.UserRole;
+import org.lucky0111.pettalkmcpserver.domain.dto.match.UserAppliesResponseDTO;
+import org.lucky0111.pettalkmcpserver.domain.dto.match.UserApplyResponseDTO;
+import org.lucky0111.pettalkmcpserver.domain.entity.match.UserApply;
+import org.lucky0111.pettalkmcpserver.domain.entity.trainer.Trainer;
+import org.lucky0111.pettalkmcpserver.domain.entity.user.PetUser;
+import org.lucky0111.pettalkmcpserver.exception.CustomException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * getTrainerApplies 키셋 커서(createdAt_applyId) 페이지 조회 (내장 DB)
+ * - 같은 createdAt을 가진 신청서가 페이지 경계에 걸쳐도 빠지거나 중복되지 않는지 확인
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ApplyServiceImplTests {
+
+    private static final String TRAINER_NICKNAME = "신청훈련사";
+    private static final int APPLY_COUNT = 25;
+    // createdAt이 같은 신청서 수 (페이지 크기 10과 어긋나게 하여 경계에서 동률 발생)
+    private static final int SAME_CREATED_AT = 4;
+
+    @Autowired
+    private ApplyServiceImpl applyService;
+
+    @Autowired
+    private McpToolRegistry mcpToolRegistry;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 기대 순서 (createdAt 내림차순, applyId 내림차순)
+    private List<UserApply> expected;
+
+    @BeforeAll
+    void setUp() {
+        expected = transactionTemplate.execute(status -> {
+            PetUser trainerUser = new PetUser();
+            trainerUser.setName(TRAINER_NICKNAME);
+            trainerUser.setNickname(TRAINER_NICKNAME);
+            trainerUser.setEmail("applies-trainer@pettalk.test");
+            trainerUser.setRole(UserRole.TRAINER);
+            entityManager.persist(trainerUser);
+
+            PetUser applicant = new PetUser();
+            applicant.setName("신청자");
+            applicant.setNickname("신청자");
+            applicant.setEmail("applicant@pettalk.test");
+            applicant.setRole(UserRole.USER);
+            entityManager.persist(applicant);
+
+            Trainer trainer = new Trainer();
+            trainer.setUser(trainerUser);
+            trainer.setTitle("신청서 조회용 훈련사");
+            trainer.setIntroduction("신청서 키셋 페이지 조회 확인");
+            entityManager.persist(trainer);
+
+            LocalDateTime base = LocalDateTime.of(2025, 1, 1, 9, 0);
+            List<UserApply> applies = new ArrayList<>();
+            for (int i = 0; i < APPLY_COUNT; i++) {
+                UserApply apply = new UserApply();
+                apply.setPetUser(applicant);
+                apply.setTrainer(trainer);
+                apply.setServiceType(ServiceType.VISIT_TRAINING);
+                apply.setPetType("강아지");
+                apply.setPetBreed("말티즈");
+                apply.setPetMonthAge(12);
+                apply.setContent("신청 " + i);
+                apply.setApplyStatus(i % 2 == 0 ? ApplyStatus.PENDING : ApplyStatus.APPROVED);
+                entityManager.persist(apply);
+                applies.add(apply);
+            }
+            entityManager.flush();
+
+            // createdAt은 감사(auditing) 없이 직접 지정
+            for (int i = 0; i < applies.size(); i++) {
+                UserApply apply = applies.get(i);
+                LocalDateTime createdAt = base.plusMinutes(i / SAME_CREATED_AT);
+                entityManager.createQuery("UPDATE UserApply ua SET ua.createdAt = :createdAt WHERE ua.applyId = :applyId")
+                        .setParameter("createdAt", createdAt)
+                        .setParameter("applyId", apply.getApplyId())
+                        .executeUpdate();
+            }
+            entityManager.clear();
+
+            return entityManager.createQuery(
+                            "SELECT ua FROM UserApply ua WHERE ua.trainer.user.nickname = :nickname", UserApply.class)
+                    .setParameter("nickname", TRAINER_NICKNAME)
+                    .getResultList().stream()
+                    .sorted(Comparator.comparing(UserApply::getCreatedAt).thenComparing(UserApply::getApplyId).reversed())
+                    .toList();
+        });
+    }
+
+    @Test
+    void pagesThroughAllAppliesWithCursor() {
+        List<Long> pagedIds = pageAll(null);
+
+        assertThat(pagedIds).containsExactlyElementsOf(expected.stream().map(UserApply::getApplyId).toList());
+    }
+
+    @Test
+    void pagesThroughAppliesOfStatusWithCursor() {
+        List<Long> pagedIds = pageAll("pending");
+
+        assertThat(pagedIds).containsExactlyElementsOf(expected.stream()
+                .filter(apply -> apply.getApplyStatus() == ApplyStatus.PENDING)
+                .map(UserApply::getApplyId)
+                .toList());
+    }
+
+    @Test
+    void cursorIsCreatedAtAndApplyIdOfLastApply() {
+        UserAppliesResponseDTO page = applyService.getTrainerApplies(TRAINER_NICKNAME, null, null);
+
+        UserApplyResponseDTO last = page.applies().get(page.applies().size() - 1);
+        assertThat(page.nextCursor()).isEqualTo(last.createdAt() + "_" + last.applyId());
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        assertThatThrownBy(() -> applyService.getTrainerApplies(TRAINER_NICKNAME, null, "2025-01-01T09:00"))
+                .isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> applyService.getTrainerApplies(TRAINER_NICKNAME, null, "yesterday_1"))
+                .isInstanceOf(CustomException.class);
+    }
+
+    @Test
+    void notRegisteredAsToolByDefault() {
+        assertThat(mcpToolRegistry.find("getTrainerApplies")).isEmpty();
+    }
+
+    // nextCursor를 따라 마지막 페이지까지 조회한 신청서 ID 목록
+    private List<Long> pageAll(String status) {
+        List<Long> applyIds = new ArrayList<>();
+        String cursor = null;
+        for (int page = 0; page <= APPLY_COUNT; page++) {
+            UserAppliesResponseDTO response = applyService.getTrainerApplies(TRAINER_NICKNAME, status, cursor);
+            response.applies().forEach(apply -> applyIds.add(apply.applyId()));
+            if (!response.hasMore()) {
+                return applyIds;
+            }
+            assertThat(response.applies()).hasSize(10);
+            cursor = response.nextCursor();
+        }
+        throw new AssertionError("Cursor did not reach the last page");
+    }
+}